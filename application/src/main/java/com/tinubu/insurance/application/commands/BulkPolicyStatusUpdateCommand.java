@@ -0,0 +1,16 @@
+package com.tinubu.insurance.application.commands;
+
+import java.util.List;
+
+/**
+ * Status updates of many policies handled in a single unit of work: each policy goes through the
+ * same checks as a {@link PolicyStatusUpdateCommand}, and all resulting events are appended in one
+ * transaction. Handled with a {@code List<PolicyCommandResult>}, one result per update in order; an
+ * update rejected by its policy does not prevent the others.
+ */
+public record BulkPolicyStatusUpdateCommand(List<PolicyStatusUpdateCommand> updates) {
+
+  public BulkPolicyStatusUpdateCommand {
+    updates = List.copyOf(updates);
+  }
+}
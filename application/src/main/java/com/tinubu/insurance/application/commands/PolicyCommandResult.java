@@ -0,0 +1,21 @@
+package com.tinubu.insurance.application.commands;
+
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+
+/**
+ * Outcome of one dispatched policy command.
+ *
+ * @param policyId the targeted (or generated) policy id
+ * @param succeeded whether the command was handled without error
+ * @param error the failure message, null on success
+ */
+public record PolicyCommandResult(PolicyId policyId, boolean succeeded, String error) {
+
+  public static PolicyCommandResult success(PolicyId policyId) {
+    return new PolicyCommandResult(policyId, true, null);
+  }
+
+  public static PolicyCommandResult failure(PolicyId policyId, String error) {
+    return new PolicyCommandResult(policyId, false, error);
+  }
+}
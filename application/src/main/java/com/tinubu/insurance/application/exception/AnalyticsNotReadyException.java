@@ -0,0 +1,8 @@
+package com.tinubu.insurance.application.exception;
+
+/** Thrown while the analytics are still replaying the event stream, after a node starts. */
+public class AnalyticsNotReadyException extends ServiceUnavailableException {
+  public AnalyticsNotReadyException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,8 @@
+package com.tinubu.insurance.application.exception;
+
+/** Thrown when a command is rejected because too many commands are already in flight. */
+public class CommandCapacityExceededException extends ServiceUnavailableException {
+  public CommandCapacityExceededException(String message) {
+    super(message);
+  }
+}
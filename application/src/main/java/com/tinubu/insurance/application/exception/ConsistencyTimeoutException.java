@@ -0,0 +1,8 @@
+package com.tinubu.insurance.application.exception;
+
+/** Thrown when the projection does not catch up with a consistency token in time. */
+public class ConsistencyTimeoutException extends ServiceUnavailableException {
+  public ConsistencyTimeoutException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,33 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Range of event store positions written by a command, {@code (after, upTo]}, exchanged with
+ * clients as an opaque token. A read presenting it is served once the projection covers the range.
+ */
+public record ConsistencyToken(long after, long upTo) {
+
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = after + SEPARATOR + upTo;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ConsistencyToken decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      return new ConsistencyToken(
+          Long.parseLong(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      throw new InvalidInputException("Invalid consistency token: " + token, e);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.tinubu.insurance.application.queries;
+
+/**
+ * Policy counts over a window.
+ *
+ * @param overlapping policies in force on at least one day of the window
+ * @param coveringWholeWindow policies in force on every day of the window
+ * @param starting policies starting within the window
+ * @param ending policies ending within the window
+ */
+public record CoverageCounts(
+    long overlapping, long coveringWholeWindow, long starting, long ending) {}
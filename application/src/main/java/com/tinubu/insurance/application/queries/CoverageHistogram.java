@@ -0,0 +1,12 @@
+package com.tinubu.insurance.application.queries;
+
+import java.time.LocalDate;
+
+/**
+ * Policies in force per day, a policy being in force from its start date to its end date inclusive.
+ *
+ * @param from first day
+ * @param to last day
+ * @param inForce number of policies in force on {@code from} plus the index in days
+ */
+public record CoverageHistogram(LocalDate from, LocalDate to, int[] inForce) {}
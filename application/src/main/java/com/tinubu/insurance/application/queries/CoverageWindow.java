@@ -0,0 +1,42 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+/**
+ * Days and policies an analytics query looks at.
+ *
+ * @param from first day, inclusive
+ * @param to last day, inclusive
+ * @param statuses statuses of the policies to count, every status when empty
+ */
+public record CoverageWindow(LocalDate from, LocalDate to, Set<PolicyStatus> statuses) {
+
+  /** About ten years, bounds the size of a histogram. */
+  public static final int MAX_DAYS = 3660;
+
+  public CoverageWindow {
+    if (from == null || to == null) {
+      throw new InvalidInputException("from and to must not be null");
+    }
+    if (from.isAfter(to)) {
+      throw new InvalidInputException("from %s must not be after to %s".formatted(from, to));
+    }
+    if (days(from, to) > MAX_DAYS) {
+      throw new InvalidInputException(
+          "The window must not exceed %d days, got %d".formatted(MAX_DAYS, days(from, to)));
+    }
+    statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+  }
+
+  public int days() {
+    return (int) days(from, to);
+  }
+
+  private static long days(LocalDate from, LocalDate to) {
+    return ChronoUnit.DAYS.between(from, to) + 1;
+  }
+}
@@ -0,0 +1,38 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/** Position in the (endDate, policyId) keyset, exchanged with clients as an opaque token. */
+public record ExpiringPolicyCursor(LocalDate endDate, PolicyId policyId) {
+
+  private static final String SEPARATOR = "|";
+
+  public static ExpiringPolicyCursor after(Policy policy) {
+    return new ExpiringPolicyCursor(policy.endDate(), policy.id());
+  }
+
+  public String encode() {
+    String raw = endDate + SEPARATOR + policyId.toUUID();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ExpiringPolicyCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      return new ExpiringPolicyCursor(
+          LocalDate.parse(raw.substring(0, separator)),
+          PolicyId.fromUUID(UUID.fromString(raw.substring(separator + 1))));
+    } catch (RuntimeException e) {
+      throw new InvalidInputException("Invalid cursor: " + token, e);
+    }
+  }
+}
@@ -1,3 +1,26 @@
 package com.tinubu.insurance.application.queries;
 
-public record FindAllPoliciesQuery() {}
+import com.tinubu.insurance.application.exception.InvalidInputException;
+
+/**
+ * Keyset-paginated listing of policies ordered by (createdAt, policyId).
+ *
+ * @param cursor opaque cursor returned by the previous page, or null for the first page
+ * @param limit maximum number of policies to return
+ */
+public record FindAllPoliciesQuery(String cursor, int limit) {
+
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 500;
+
+  public FindAllPoliciesQuery {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new InvalidInputException(
+          "limit must be between 1 and %d, got %d".formatted(MAX_LIMIT, limit));
+    }
+  }
+
+  public PolicyCursor decodedCursor() {
+    return cursor == null || cursor.isBlank() ? null : PolicyCursor.decode(cursor);
+  }
+}
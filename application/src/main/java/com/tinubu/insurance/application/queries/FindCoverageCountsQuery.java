@@ -0,0 +1,4 @@
+package com.tinubu.insurance.application.queries;
+
+/** Number of policies overlapping, covering, starting and ending in the window. */
+public record FindCoverageCountsQuery(CoverageWindow window) {}
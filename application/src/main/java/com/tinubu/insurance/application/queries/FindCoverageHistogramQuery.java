@@ -0,0 +1,4 @@
+package com.tinubu.insurance.application.queries;
+
+/** Number of policies in force on each day of the window. */
+public record FindCoverageHistogramQuery(CoverageWindow window) {}
@@ -0,0 +1,54 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+/**
+ * Keyset-paginated listing of the policies whose end date falls between two dates (both inclusive),
+ * ordered by (endDate, policyId).
+ *
+ * @param from first end date of the window
+ * @param to last end date of the window
+ * @param cursor opaque cursor returned by the previous page, or null for the first page
+ * @param limit maximum number of policies to return
+ */
+public record FindPoliciesExpiringQuery(LocalDate from, LocalDate to, String cursor, int limit) {
+
+  /** Windows starting today with one of these lengths are cached for the day. */
+  public static final Set<Integer> CACHED_WINDOW_DAYS = Set.of(7, 30, 90);
+
+  public static final int MAX_CACHED_WINDOW_DAYS = 90;
+
+  public FindPoliciesExpiringQuery {
+    if (from == null || to == null) {
+      throw new InvalidInputException("from and to must not be null");
+    }
+    if (from.isAfter(to)) {
+      throw new InvalidInputException("from %s must not be after to %s".formatted(from, to));
+    }
+    if (limit < 1 || limit > FindAllPoliciesQuery.MAX_LIMIT) {
+      throw new InvalidInputException(
+          "limit must be between 1 and %d, got %d"
+              .formatted(FindAllPoliciesQuery.MAX_LIMIT, limit));
+    }
+  }
+
+  public ExpiringPolicyCursor decodedCursor() {
+    return cursor == null || cursor.isBlank() ? null : ExpiringPolicyCursor.decode(cursor);
+  }
+
+  /** Whether this is one of the common windows, starting on the given day. */
+  public boolean isCommonWindow(LocalDate today) {
+    return from.equals(today)
+        && CACHED_WINDOW_DAYS.contains((int) ChronoUnit.DAYS.between(from, to));
+  }
+
+  /** Whether a policy ending on this date may appear in a cached window of the given day. */
+  public static boolean inCachedWindows(LocalDate endDate, LocalDate today) {
+    return endDate != null
+        && !endDate.isBefore(today)
+        && !endDate.isAfter(today.plusDays(MAX_CACHED_WINDOW_DAYS));
+  }
+}
@@ -1,3 +1,16 @@
 package com.tinubu.insurance.application.queries;
 
-public record FindPoliciesNeedingStatusUpdateQuery() {}
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Chunk of the policies whose status transition is due, ordered by policy id, within a shard of the
+ * policy id space.
+ *
+ * @param dueOn the date the statuses are evaluated against
+ * @param afterPolicyId exclusive lower bound of the chunk
+ * @param upToPolicyId inclusive upper bound of the shard
+ * @param limit maximum number of policies returned
+ */
+public record FindPoliciesNeedingStatusUpdateQuery(
+    LocalDate dueOn, UUID afterPolicyId, UUID upToPolicyId, int limit) {}
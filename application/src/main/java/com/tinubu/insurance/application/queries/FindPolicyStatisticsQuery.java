@@ -0,0 +1,3 @@
+package com.tinubu.insurance.application.queries;
+
+public record FindPolicyStatisticsQuery() {}
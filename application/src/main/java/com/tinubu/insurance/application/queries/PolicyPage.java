@@ -0,0 +1,32 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of policies and the cursor of the following page (null on the last page).
+ *
+ * @param policies policies of this page, in keyset order
+ * @param nextCursor opaque cursor to pass back to fetch the next page
+ */
+public record PolicyPage(List<Policy> policies, String nextCursor) {
+
+  /**
+   * Builds a page from a fetch of {@code limit + 1} rows: the extra row only tells whether a next
+   * page exists and is not returned.
+   */
+  public static PolicyPage of(List<Policy> fetched, int limit) {
+    return of(fetched, limit, policy -> PolicyCursor.after(policy).encode());
+  }
+
+  /** Same as {@link #of(List, int)}, for a keyset other than (createdAt, policyId). */
+  public static PolicyPage of(
+      List<Policy> fetched, int limit, Function<Policy, String> cursorAfter) {
+    if (fetched.size() <= limit) {
+      return new PolicyPage(fetched, null);
+    }
+    List<Policy> policies = fetched.subList(0, limit);
+    return new PolicyPage(List.copyOf(policies), cursorAfter.apply(policies.get(limit - 1)));
+  }
+}
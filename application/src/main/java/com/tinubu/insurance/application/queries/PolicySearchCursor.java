@@ -0,0 +1,50 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.domain.policy.search.PolicySortField;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the (sort field, policyId) keyset of a search, exchanged with clients as an opaque
+ * token. It carries its sort, so it cannot be replayed against another one.
+ */
+public record PolicySearchCursor(PolicySort sort, Comparable<?> value, PolicyId policyId) {
+
+  private static final String SEPARATOR = "|";
+
+  public static PolicySearchCursor after(Policy policy, PolicySort sort) {
+    return new PolicySearchCursor(sort, sort.field().valueOf(policy), policy.id());
+  }
+
+  public String encode() {
+    String raw =
+        String.join(
+            SEPARATOR,
+            sort.field().name(),
+            String.valueOf(sort.descending()),
+            policyId.toUUID().toString(),
+            value.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static PolicySearchCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 4);
+      PolicySortField field = PolicySortField.valueOf(parts[0]);
+      return new PolicySearchCursor(
+          new PolicySort(field, Boolean.parseBoolean(parts[1])),
+          field.parse(parts[3]),
+          PolicyId.fromUUID(UUID.fromString(parts[2])));
+    } catch (RuntimeException e) {
+      throw new InvalidInputException("Invalid cursor: " + token, e);
+    }
+  }
+}
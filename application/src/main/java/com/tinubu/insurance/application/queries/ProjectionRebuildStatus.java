@@ -0,0 +1,43 @@
+package com.tinubu.insurance.application.queries;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/** Progress of the last projection rebuild, null fields meaning "not reached yet". */
+public record ProjectionRebuildStatus(
+    Phase phase,
+    long eventsRead,
+    long policiesWritten,
+    OffsetDateTime startedAt,
+    OffsetDateTime finishedAt,
+    String error) {
+
+  public enum Phase {
+    IDLE,
+    READING_EVENTS,
+    WRITING_ROWS,
+    BUILDING_INDEXES,
+    SWAPPING,
+    COMPLETED,
+    FAILED
+  }
+
+  public static final ProjectionRebuildStatus IDLE =
+      new ProjectionRebuildStatus(Phase.IDLE, 0, 0, null, null, null);
+
+  public boolean isRunning() {
+    return phase != Phase.IDLE && phase != Phase.COMPLETED && phase != Phase.FAILED;
+  }
+
+  public Duration elapsed() {
+    if (startedAt == null) {
+      return Duration.ZERO;
+    }
+    return Duration.between(startedAt, finishedAt != null ? finishedAt : OffsetDateTime.now());
+  }
+
+  public double eventsPerSecond() {
+    long millis = elapsed().toMillis();
+    return millis == 0 ? 0 : eventsRead * 1000.0 / millis;
+  }
+}
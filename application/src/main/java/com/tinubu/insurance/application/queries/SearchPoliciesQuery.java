@@ -0,0 +1,65 @@
+package com.tinubu.insurance.application.queries;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.domain.policy.search.PolicySortField;
+import java.util.stream.Stream;
+
+/**
+ * Keyset-paginated search of the policies matching the criteria, ordered by (sort field, policyId).
+ * The filters and the order are evaluated by the database.
+ *
+ * @param criteria filters, all of them must match
+ * @param sort order of the results
+ * @param cursor opaque cursor returned by the previous page, or null for the first page
+ * @param limit maximum number of policies to return
+ */
+public record SearchPoliciesQuery(
+    PolicySearchCriteria criteria, PolicySort sort, String cursor, int limit) {
+
+  public SearchPoliciesQuery {
+    if (criteria == null || sort == null) {
+      throw new InvalidInputException("criteria and sort must not be null");
+    }
+    requireOrdered(criteria.startDateFrom(), criteria.startDateTo(), "startDate");
+    requireOrdered(criteria.endDateFrom(), criteria.endDateTo(), "endDate");
+    requireOrdered(criteria.createdFrom(), criteria.createdTo(), "created");
+    requireOrdered(criteria.updatedFrom(), criteria.updatedTo(), "updated");
+    if (limit < 1 || limit > FindAllPoliciesQuery.MAX_LIMIT) {
+      throw new InvalidInputException(
+          "limit must be between 1 and %d, got %d"
+              .formatted(FindAllPoliciesQuery.MAX_LIMIT, limit));
+    }
+  }
+
+  /** Parses the sort parameters of the API, e.g. {@code endDate} and {@code desc}. */
+  public static PolicySort sortOf(String field, String direction) {
+    PolicySortField sortField =
+        Stream.of(PolicySortField.values())
+            .filter(candidate -> candidate.property().equalsIgnoreCase(field))
+            .findFirst()
+            .orElseThrow(() -> new InvalidInputException("Invalid sort field: " + field));
+    if (!"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction)) {
+      throw new InvalidInputException("Invalid sort direction: " + direction);
+    }
+    return new PolicySort(sortField, "desc".equalsIgnoreCase(direction));
+  }
+
+  public PolicySearchCursor decodedCursor() {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    PolicySearchCursor decoded = PolicySearchCursor.decode(cursor);
+    if (!decoded.sort().equals(sort)) {
+      throw new InvalidInputException("Cursor was issued for another sort: " + cursor);
+    }
+    return decoded;
+  }
+
+  private static <T extends Comparable<? super T>> void requireOrdered(T from, T to, String field) {
+    if (from != null && to != null && from.compareTo(to) > 0) {
+      throw new InvalidInputException("%sFrom must not be after %sTo".formatted(field, field));
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.tinubu.insurance.application.service;
+
+import com.tinubu.insurance.application.exception.CommandCapacityExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the number of commands in flight, interactive and batch ones alike. Once saturated, new
+ * interactive commands are rejected right away (after at most {@code acquireTimeout}) instead of
+ * queueing and growing latency; batches wait longer for their slots.
+ */
+@Component
+public class CommandAdmissionControl {
+
+  private final Semaphore permits;
+  private final int maxInFlight;
+  private final long acquireTimeoutMillis;
+
+  public CommandAdmissionControl(
+      @Value("${app.commands.max-in-flight:64}") int maxInFlight,
+      @Value("${app.commands.acquire-timeout-ms:0}") long acquireTimeoutMillis,
+      MeterRegistry meterRegistry) {
+    this.permits = new Semaphore(maxInFlight);
+    this.maxInFlight = maxInFlight;
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+    Gauge.builder("policy.commands.in.flight", this, CommandAdmissionControl::inFlight)
+        .description("Commands currently admitted by the API")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Takes a slot for one command, to be given back with {@link #release()} once it completes.
+   *
+   * @throws CommandCapacityExceededException if no slot frees up in time
+   */
+  public void acquire() {
+    acquire(acquireTimeoutMillis);
+  }
+
+  /**
+   * Same as {@link #acquire()}, waiting at most {@code timeoutMillis} for a slot.
+   *
+   * @throws CommandCapacityExceededException if no slot frees up in time
+   */
+  public void acquire(long timeoutMillis) {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      throw new CommandCapacityExceededException(
+          "Too many commands in flight (max %d), retry later".formatted(maxInFlight));
+    }
+  }
+
+  public void release() {
+    permits.release();
+  }
+
+  public int inFlight() {
+    return maxInFlight - permits.availablePermits();
+  }
+}
@@ -0,0 +1,19 @@
+package com.tinubu.insurance.application.service;
+
+import com.tinubu.insurance.application.queries.CoverageCounts;
+import com.tinubu.insurance.application.queries.CoverageHistogram;
+import com.tinubu.insurance.application.queries.CoverageWindow;
+
+/**
+ * Portfolio-wide aggregations over the coverage periods of the policies, computed in memory from
+ * the event stream rather than from the projection.
+ */
+public interface PolicyAnalytics {
+
+  /** False until the event stream has been replayed up to its head, after the node starts. */
+  boolean isReady();
+
+  CoverageHistogram coverageHistogram(CoverageWindow window);
+
+  CoverageCounts coverageCounts(CoverageWindow window);
+}
@@ -0,0 +1,159 @@
+package com.tinubu.insurance.application.service;
+
+import com.tinubu.insurance.application.commands.BulkPolicyStatusUpdateCommand;
+import com.tinubu.insurance.application.commands.PolicyCommand;
+import com.tinubu.insurance.application.commands.PolicyCommandResult;
+import com.tinubu.insurance.application.commands.PolicyStatusUpdateCommand;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PolicyBatchCommandService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyBatchCommandService.class);
+
+  private final CommandGateway commandGateway;
+  private final AsyncTaskExecutor taskExecutor;
+  private final CommandAdmissionControl admissionControl;
+  private final int maxInFlight;
+  private final long acquireTimeoutMillis;
+
+  public PolicyBatchCommandService(
+      CommandGateway commandGateway,
+      @Qualifier("batchCommandTaskExecutor") AsyncTaskExecutor taskExecutor,
+      CommandAdmissionControl admissionControl,
+      @Value("${app.commands.batch.max-in-flight:32}") int maxInFlight,
+      @Value("${app.commands.batch.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+    this.commandGateway = commandGateway;
+    this.taskExecutor = taskExecutor;
+    this.admissionControl = admissionControl;
+    this.maxInFlight = maxInFlight;
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+  }
+
+  /**
+   * Dispatches the commands concurrently, never more than {@code maxInFlight} at a time, and waits
+   * for all of them. A failing command does not affect the others. Each command also takes a slot
+   * of {@link CommandAdmissionControl}, so batches count against the commands in flight; a command
+   * that gets no slot in time fails.
+   *
+   * @param commands the commands to dispatch
+   * @return one result per command, in the same order
+   */
+  public List<PolicyCommandResult> dispatchAll(List<? extends PolicyCommand> commands) {
+    return dispatchAll(commands, maxInFlight);
+  }
+
+  /**
+   * Same as {@link #dispatchAll(List)} with a caller-provided concurrency limit.
+   *
+   * @param commands the commands to dispatch
+   * @param maxInFlight maximum number of commands executing at the same time, capped by the batch
+   *     executor size
+   * @return one result per command, in the same order
+   */
+  public List<PolicyCommandResult> dispatchAll(
+      List<? extends PolicyCommand> commands, int maxInFlight) {
+    long startTime = System.currentTimeMillis();
+    // The batch executor has one thread per slot of the default window, more would only queue
+    Semaphore window = new Semaphore(Math.min(maxInFlight, this.maxInFlight));
+    List<CompletableFuture<PolicyCommandResult>> results = new ArrayList<>(commands.size());
+
+    for (PolicyCommand command : commands) {
+      window.acquireUninterruptibly();
+      CompletableFuture<Object> sent;
+      try {
+        sent = sendAdmitted(command);
+      } catch (RuntimeException e) {
+        window.release();
+        results.add(
+            CompletableFuture.completedFuture(
+                PolicyCommandResult.failure(command.aggregateId(), e.getMessage())));
+        continue;
+      }
+      results.add(
+          sent.handle(
+              (result, ex) -> {
+                window.release();
+                return ex == null
+                    ? PolicyCommandResult.success(command.aggregateId())
+                    : PolicyCommandResult.failure(command.aggregateId(), causeMessage(ex));
+              }));
+    }
+
+    List<PolicyCommandResult> completed = results.stream().map(CompletableFuture::join).toList();
+    logger.info(
+        "Batch of {} policy commands dispatched in {} ms ({} failed)",
+        commands.size(),
+        System.currentTimeMillis() - startTime,
+        completed.stream().filter(result -> !result.succeeded()).count());
+    return completed;
+  }
+
+  /**
+   * Applies the status updates as one {@link BulkPolicyStatusUpdateCommand}, in a single
+   * transaction. Like each command of {@link #dispatchAll(List)}, it runs on the batch executor and
+   * holds one slot of {@link CommandAdmissionControl}; if it gets no slot in time, every update
+   * fails. If that transaction fails as a whole, e.g. on a concurrent append to one of the
+   * policies, the updates are dispatched one by one with {@link #dispatchAll(List)}.
+   *
+   * @param commands the status updates
+   * @return one result per command, in the same order
+   */
+  public List<PolicyCommandResult> updateStatuses(List<PolicyStatusUpdateCommand> commands) {
+    if (commands.isEmpty()) {
+      return List.of();
+    }
+    CompletableFuture<List<PolicyCommandResult>> bulk;
+    try {
+      bulk = sendAdmitted(new BulkPolicyStatusUpdateCommand(commands));
+    } catch (RuntimeException e) {
+      // One by one, the updates would not get slots either
+      return commands.stream()
+          .map(command -> PolicyCommandResult.failure(command.aggregateId(), e.getMessage()))
+          .toList();
+    }
+    try {
+      return bulk.join();
+    } catch (CompletionException e) {
+      logger.warn(
+          "Bulk status update of {} policies failed, dispatching them one by one: {}",
+          commands.size(),
+          causeMessage(e));
+      return dispatchAll(commands);
+    }
+  }
+
+  // Sends the command from the batch executor, holding an admission slot until it completes
+  private <R> CompletableFuture<R> sendAdmitted(Object command) {
+    admissionControl.acquire(acquireTimeoutMillis);
+    try {
+      return CompletableFuture.<R>supplyAsync(
+              () -> commandGateway.sendAndWait(command), taskExecutor)
+          .whenComplete((result, ex) -> admissionControl.release());
+    } catch (RuntimeException e) {
+      admissionControl.release();
+      throw e;
+    }
+  }
+
+  private static String causeMessage(Throwable ex) {
+    Throwable cause = ex;
+    while ((cause instanceof CompletionException || cause instanceof CommandExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause.getMessage();
+  }
+}
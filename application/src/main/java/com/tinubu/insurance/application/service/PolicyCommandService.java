@@ -1,27 +1,45 @@
 package com.tinubu.insurance.application.service;
 
 import com.tinubu.insurance.application.commands.CreatePolicyCommand;
+import com.tinubu.insurance.application.commands.PolicyCommand;
 import com.tinubu.insurance.application.commands.PolicyStatusUpdateCommand;
 import com.tinubu.insurance.application.commands.UpdatePolicyCommand;
 import com.tinubu.insurance.application.exception.InvalidInputException;
+import com.tinubu.insurance.application.exception.ResourceNotFoundException;
 import com.tinubu.insurance.domain.policy.entity.PolicyId;
 import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletionException;
+import org.axonframework.commandhandling.CommandExecutionException;
 import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.modelling.command.AggregateNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
 @Service
 public class PolicyCommandService {
   private static final Logger logger = LoggerFactory.getLogger(PolicyCommandService.class);
   private final CommandGateway commandGateway;
+  private final AsyncTaskExecutor taskExecutor;
+  private final CommandAdmissionControl admissionControl;
+  private final PolicyMetrics metrics;
+
+  public PolicyCommandService(
+      CommandGateway commandGateway,
+      @Qualifier("commandTaskExecutor") AsyncTaskExecutor taskExecutor,
+      CommandAdmissionControl admissionControl,
+      PolicyMetrics metrics) {
+    this.commandGateway = commandGateway;
+    this.taskExecutor = taskExecutor;
+    this.admissionControl = admissionControl;
+    this.metrics = metrics;
+  }
 
   /**
    * Asynchronously handles the creation of a new policy. Generates a UUID for the policy id and
@@ -31,28 +49,25 @@ public class PolicyCommandService {
    * @param status the status of the policy (e.g., ACTIVE/INACTIVE)
    * @param startDate the start date of the policy
    * @param endDate the end date of the policy
-   * @return a CompletableFuture indicating the result of the command
+   * @return a CompletableFuture completed with the id of the created policy
+   * @throws com.tinubu.insurance.application.exception.CommandCapacityExceededException if too many
+   *     commands are already in flight
    */
-  public CompletableFuture<Void> createPolicy(
+  public CompletableFuture<PolicyId> createPolicy(
       String name, PolicyStatus status, LocalDate startDate, LocalDate endDate) {
     PolicyId policyId = PolicyId.fromUUID(UUID.randomUUID()); // Generate a unique ID for the policy
     CreatePolicyCommand command =
         new CreatePolicyCommand(policyId, name, status, startDate, endDate);
     logger.info("Sending command to create policy with ID: {}", policyId);
-    // Send the command asynchronously using CommandGateway and return the CompletableFuture
-    return commandGateway
-        .send(command)
-        .thenAccept(
+    return dispatch(command)
+        .thenApply(
             result -> {
               logger.info("Policy creation command executed successfully for ID: {}", policyId);
+              return policyId;
             })
         .exceptionally(
             ex -> {
-              String errorMsg =
-                  "Error while creating policy with ID: %s. Cause: %s"
-                      .formatted(policyId, ex.getMessage());
-              logger.error(errorMsg, ex);
-              throw new InvalidInputException(errorMsg);
+              throw translate("Error while creating policy with ID: %s".formatted(policyId), ex);
             });
   }
 
@@ -65,28 +80,22 @@ public class PolicyCommandService {
    * @param startDate the updated start date of the policy
    * @param endDate the updated end date of the policy
    * @return a CompletableFuture indicating the result of the command
+   * @throws com.tinubu.insurance.application.exception.CommandCapacityExceededException if too many
+   *     commands are already in flight
    */
   public CompletableFuture<Void> updatePolicy(
       PolicyId policyId, String name, PolicyStatus status, LocalDate startDate, LocalDate endDate) {
-    // Build the command object (PolicyUpdatedEvent in this case)
-    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
     UpdatePolicyCommand command =
         new UpdatePolicyCommand(policyId, name, status, startDate, endDate);
     logger.info("Sending command to update policy with ID: {}", policyId);
-    // Send the command asynchronously using CommandGateway and return the CompletableFuture
-    return commandGateway
-        .send(command)
+    return dispatch(command)
         .thenAccept(
             result -> {
               logger.info("Policy update command executed successfully for ID: {}", policyId);
             })
         .exceptionally(
             ex -> {
-              String errorMsg =
-                  "Error while updating policy with ID: %s. Cause: %s"
-                      .formatted(policyId, ex.getMessage());
-              logger.error(errorMsg, ex);
-              throw new InvalidInputException(errorMsg);
+              throw translate("Error while updating policy with ID: %s".formatted(policyId), ex);
             });
   }
 
@@ -102,16 +111,49 @@ public class PolicyCommandService {
       PolicyId policyId, PolicyStatus newStatus, String reason) {
     PolicyStatusUpdateCommand command = new PolicyStatusUpdateCommand(policyId, newStatus, reason);
     logger.info("Updating policy status for {}: {} - {}", policyId, newStatus, reason);
-    return commandGateway
-        .send(command)
+    return dispatch(command)
         .thenAccept(result -> logger.info("Policy status updated successfully: {}", policyId))
         .exceptionally(
             ex -> {
-              String errorMsg =
-                  "Error while updating policy status with ID: %s. Cause: %s"
-                      .formatted(policyId, ex.getMessage());
-              logger.error(errorMsg, ex);
-              throw new InvalidInputException(errorMsg);
+              throw translate(
+                  "Error while updating policy status with ID: %s".formatted(policyId), ex);
             });
   }
+
+  // Runs the command off the caller thread, within the in-flight cap
+  private CompletableFuture<Object> dispatch(PolicyCommand command) {
+    Timer.Sample sample = metrics.startCommand();
+    try {
+      admissionControl.acquire();
+    } catch (RuntimeException e) {
+      metrics.commandCompleted(sample, command, e);
+      throw e;
+    }
+    try {
+      return CompletableFuture.supplyAsync(() -> commandGateway.sendAndWait(command), taskExecutor)
+          .whenComplete(
+              (result, ex) -> {
+                admissionControl.release();
+                metrics.commandCompleted(sample, command, ex);
+              });
+    } catch (RuntimeException e) {
+      admissionControl.release();
+      throw e;
+    }
+  }
+
+  private static RuntimeException translate(String message, Throwable ex) {
+    Throwable cause = ex;
+    while ((cause instanceof CompletionException || cause instanceof CommandExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    String errorMsg = "%s. Cause: %s".formatted(message, cause.getMessage());
+    if (cause instanceof AggregateNotFoundException) {
+      logger.warn(errorMsg);
+      return new ResourceNotFoundException(errorMsg, cause);
+    }
+    logger.error(errorMsg, cause);
+    return new InvalidInputException(errorMsg, cause);
+  }
 }
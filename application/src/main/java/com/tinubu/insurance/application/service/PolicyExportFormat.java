@@ -0,0 +1,32 @@
+package com.tinubu.insurance.application.service;
+
+import com.tinubu.insurance.application.exception.InvalidInputException;
+import java.util.stream.Stream;
+
+public enum PolicyExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv", "csv");
+
+  private final String mediaType;
+  private final String fileExtension;
+
+  PolicyExportFormat(String mediaType, String fileExtension) {
+    this.mediaType = mediaType;
+    this.fileExtension = fileExtension;
+  }
+
+  public String mediaType() {
+    return mediaType;
+  }
+
+  public String fileExtension() {
+    return fileExtension;
+  }
+
+  public static PolicyExportFormat fromString(String value) {
+    return Stream.of(values())
+        .filter(format -> format.name().equalsIgnoreCase(value))
+        .findFirst()
+        .orElseThrow(() -> new InvalidInputException("Invalid export format: " + value));
+  }
+}
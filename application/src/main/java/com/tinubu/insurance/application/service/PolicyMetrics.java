@@ -0,0 +1,81 @@
+package com.tinubu.insurance.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application meters, published next to the Axon command bus, event processor and query bus meters.
+ * Timers publish histograms so percentiles can be computed by the scraper.
+ */
+@Component
+public class PolicyMetrics {
+
+  private static final String OUTCOME = "outcome";
+  private static final String SUCCESS = "success";
+  private static final String ERROR = "error";
+
+  private final MeterRegistry registry;
+  private final Timer statusUpdateRunTimer;
+  private final Counter statusUpdateSucceeded;
+  private final Counter statusUpdateFailed;
+
+  public PolicyMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    this.statusUpdateRunTimer =
+        Timer.builder("policy.status.update.run")
+            .description("Duration of the policy status update runs")
+            .register(registry);
+    this.statusUpdateSucceeded = statusUpdateCounter("succeeded");
+    this.statusUpdateFailed = statusUpdateCounter("failed");
+  }
+
+  /** Times a query handler, tagged with the query type and outcome. */
+  public <T> T timeQuery(Object query, Supplier<T> handler) {
+    Timer.Sample sample = Timer.start(registry);
+    String outcome = ERROR;
+    try {
+      T result = handler.get();
+      outcome = SUCCESS;
+      return result;
+    } finally {
+      sample.stop(timer("policy.query", "query", query, outcome));
+    }
+  }
+
+  public Timer.Sample startCommand() {
+    return Timer.start(registry);
+  }
+
+  /** Records a command from dispatch to completion, admission and executor queueing included. */
+  public void commandCompleted(Timer.Sample sample, Object command, Throwable failure) {
+    sample.stop(timer("policy.command", "command", command, failure == null ? SUCCESS : ERROR));
+  }
+
+  public void statusUpdatesCompleted(int succeeded, int failed) {
+    statusUpdateSucceeded.increment(succeeded);
+    statusUpdateFailed.increment(failed);
+  }
+
+  public void statusUpdateRunCompleted(Duration duration) {
+    statusUpdateRunTimer.record(duration);
+  }
+
+  private Timer timer(String name, String typeTag, Object message, String outcome) {
+    return Timer.builder(name)
+        .tag(typeTag, message.getClass().getSimpleName())
+        .tag(OUTCOME, outcome)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  private Counter statusUpdateCounter(String outcome) {
+    return Counter.builder("policy.status.update.commands")
+        .description("Status update commands sent by the scheduler")
+        .tag(OUTCOME, outcome)
+        .register(registry);
+  }
+}
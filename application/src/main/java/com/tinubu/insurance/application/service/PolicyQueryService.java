@@ -1,19 +1,31 @@
 package com.tinubu.insurance.application.service;
 
+import com.tinubu.insurance.application.exception.AnalyticsNotReadyException;
+import com.tinubu.insurance.application.queries.CoverageCounts;
+import com.tinubu.insurance.application.queries.CoverageHistogram;
+import com.tinubu.insurance.application.queries.ExpiringPolicyCursor;
 import com.tinubu.insurance.application.queries.FindAllPoliciesQuery;
+import com.tinubu.insurance.application.queries.FindCoverageCountsQuery;
+import com.tinubu.insurance.application.queries.FindCoverageHistogramQuery;
+import com.tinubu.insurance.application.queries.FindPoliciesExpiringQuery;
 import com.tinubu.insurance.application.queries.FindPoliciesNeedingStatusUpdateQuery;
 import com.tinubu.insurance.application.queries.FindPolicyByIdQuery;
+import com.tinubu.insurance.application.queries.FindPolicyStatisticsQuery;
+import com.tinubu.insurance.application.queries.PolicyCursor;
+import com.tinubu.insurance.application.queries.PolicyPage;
+import com.tinubu.insurance.application.queries.PolicySearchCursor;
+import com.tinubu.insurance.application.queries.SearchPoliciesQuery;
 import com.tinubu.insurance.domain.policy.entity.Policy;
-import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatistics;
 import com.tinubu.insurance.domain.policy.port.PolicyRepository;
-import java.util.HashMap;
+import com.tinubu.insurance.domain.policy.port.PolicyStatisticsRepository;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.axonframework.queryhandling.QueryHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,13 +34,41 @@ public class PolicyQueryService {
 
   private static final Logger logger = LoggerFactory.getLogger(PolicyQueryService.class);
 
-  private final Map<PolicyId, Policy> policyMap = new HashMap<>();
+  /** Policies by id, evicted by the projection once an update of the policy is committed. */
+  public static final String POLICY_BY_ID_CACHE = "policy-by-id";
+
+  /**
+   * Pages of the common expiring windows, keyed by query and so by day. Cleared by the projection
+   * once a change of a policy ending in one of them is committed.
+   */
+  public static final String EXPIRING_POLICIES_CACHE = "policies-expiring";
+
   private final PolicyRepository<Policy, UUID> policyRepository;
+  private final PolicyStatisticsRepository statisticsRepository;
+  private final PolicyAnalytics analytics;
+  private final PolicyMetrics metrics;
 
+  // Unknown ids are not cached, so a policy is visible as soon as its creation is projected
+  @Cacheable(cacheNames = POLICY_BY_ID_CACHE, key = "#query.policyId()", unless = "#result == null")
   @QueryHandler
   public Policy handle(FindPolicyByIdQuery query) {
+    // Cache hits never reach this method, they are counted by the cache metrics
+    return findPolicyById(query);
+  }
+
+  /**
+   * Reads the policy from the projection, skipping the cache. For callers holding a consistency
+   * token: an entry cached by this node may predate a write projected elsewhere whose eviction has
+   * not reached it yet.
+   */
+  public Policy handleUncached(FindPolicyByIdQuery query) {
+    return findPolicyById(query);
+  }
+
+  private Policy findPolicyById(FindPolicyByIdQuery query) {
     try {
-      return policyRepository.findByPolicyId(query.policyId().toUUID()).orElse(null);
+      return metrics.timeQuery(
+          query, () -> policyRepository.findByPolicyId(query.policyId().toUUID()).orElse(null));
     } catch (Exception e) {
       logger.error("Failed to handle FindPolicyByIdQuery for policy: {}", query.policyId(), e);
       throw e;
@@ -36,22 +76,135 @@ public class PolicyQueryService {
   }
 
   @QueryHandler
-  public List<Policy> handle(FindAllPoliciesQuery query) {
+  public PolicyPage handle(FindAllPoliciesQuery query) {
     try {
-      return policyRepository.findAll();
+      return metrics.timeQuery(
+          query,
+          () -> {
+            PolicyCursor cursor = query.decodedCursor();
+            // Fetch one extra row to know whether a next page exists
+            List<Policy> fetched =
+                cursor == null
+                    ? policyRepository.findFirstPage(query.limit() + 1)
+                    : policyRepository.findPageAfter(
+                        cursor.createdAt(), cursor.policyId().toUUID(), query.limit() + 1);
+            return PolicyPage.of(fetched, query.limit());
+          });
     } catch (Exception e) {
       logger.error("Failed to handle FindAllPoliciesQuery", e);
       throw e;
     }
   }
 
+  @Cacheable(
+      cacheNames = EXPIRING_POLICIES_CACHE,
+      key = "#query",
+      condition = "#query.isCommonWindow(T(java.time.LocalDate).now())")
+  @QueryHandler
+  public PolicyPage handle(FindPoliciesExpiringQuery query) {
+    try {
+      return metrics.timeQuery(
+          query,
+          () -> {
+            ExpiringPolicyCursor cursor = query.decodedCursor();
+            // Fetch one extra row to know whether a next page exists
+            List<Policy> fetched =
+                cursor == null
+                    ? policyRepository.findPoliciesExpiringBetween(
+                        query.from(), query.to(), query.limit() + 1)
+                    : policyRepository.findPoliciesExpiringBetweenAfter(
+                        query.from(),
+                        query.to(),
+                        cursor.endDate(),
+                        cursor.policyId().toUUID(),
+                        query.limit() + 1);
+            return PolicyPage.of(
+                fetched, query.limit(), policy -> ExpiringPolicyCursor.after(policy).encode());
+          });
+    } catch (Exception e) {
+      logger.error(
+          "Failed to handle FindPoliciesExpiringQuery from {} to {}", query.from(), query.to(), e);
+      throw e;
+    }
+  }
+
+  @QueryHandler
+  public PolicyPage handle(SearchPoliciesQuery query) {
+    try {
+      return metrics.timeQuery(
+          query,
+          () -> {
+            PolicySearchCursor cursor = query.decodedCursor();
+            // Fetch one extra row to know whether a next page exists
+            List<Policy> fetched =
+                policyRepository.search(
+                    query.criteria(),
+                    query.sort(),
+                    cursor == null ? null : cursor.value(),
+                    cursor == null ? null : cursor.policyId().toUUID(),
+                    query.limit() + 1);
+            return PolicyPage.of(
+                fetched,
+                query.limit(),
+                policy -> PolicySearchCursor.after(policy, query.sort()).encode());
+          });
+    } catch (Exception e) {
+      logger.error("Failed to handle SearchPoliciesQuery: {}", query.criteria(), e);
+      throw e;
+    }
+  }
+
   @QueryHandler
   public List<Policy> handle(FindPoliciesNeedingStatusUpdateQuery query) {
     try {
-      return policyRepository.findPoliciesNeedingStatusUpdate();
+      return metrics.timeQuery(
+          query,
+          () ->
+              policyRepository.findPoliciesNeedingStatusUpdate(
+                  query.dueOn(), query.afterPolicyId(), query.upToPolicyId(), query.limit()));
     } catch (Exception e) {
       logger.error("Failed to handle FindPoliciesNeedingStatusUpdateQuery", e);
       throw e;
     }
   }
+
+  @QueryHandler
+  public PolicyStatistics handle(FindPolicyStatisticsQuery query) {
+    try {
+      return metrics.timeQuery(query, statisticsRepository::load);
+    } catch (Exception e) {
+      logger.error("Failed to handle FindPolicyStatisticsQuery", e);
+      throw e;
+    }
+  }
+
+  @QueryHandler
+  public CoverageHistogram handle(FindCoverageHistogramQuery query) {
+    requireAnalyticsReady();
+    try {
+      return metrics.timeQuery(query, () -> analytics.coverageHistogram(query.window()));
+    } catch (Exception e) {
+      logger.error("Failed to handle FindCoverageHistogramQuery: {}", query.window(), e);
+      throw e;
+    }
+  }
+
+  @QueryHandler
+  public CoverageCounts handle(FindCoverageCountsQuery query) {
+    requireAnalyticsReady();
+    try {
+      return metrics.timeQuery(query, () -> analytics.coverageCounts(query.window()));
+    } catch (Exception e) {
+      logger.error("Failed to handle FindCoverageCountsQuery: {}", query.window(), e);
+      throw e;
+    }
+  }
+
+  // Partial counts while replaying would look like valid answers
+  private void requireAnalyticsReady() {
+    if (!analytics.isReady()) {
+      throw new AnalyticsNotReadyException(
+          "Policy analytics are still loading the event stream, retry later");
+    }
+  }
 }
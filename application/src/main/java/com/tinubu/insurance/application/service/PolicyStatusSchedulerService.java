@@ -1,84 +1,232 @@
 package com.tinubu.insurance.application.service;
 
+import com.tinubu.insurance.application.commands.PolicyCommandResult;
+import com.tinubu.insurance.application.commands.PolicyStatusUpdateCommand;
 import com.tinubu.insurance.application.queries.FindPoliciesNeedingStatusUpdateQuery;
 import com.tinubu.insurance.domain.policy.entity.Policy;
 import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.entity.StatusUpdateShard;
+import com.tinubu.insurance.domain.policy.port.StatusUpdateShardRepository;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Daily policy status update, shared by every node. The run splits the policy id space in shards
+ * stored in the database; each node leases one unfinished shard at a time, processes it chunk by
+ * chunk and renews the lease at every checkpoint. Every policy is evaluated once per run, by the
+ * node holding its shard. A shard whose lease expires, because its node stopped, is taken over from
+ * its last checkpoint by another node.
+ */
 @Service
 public class PolicyStatusSchedulerService {
 
   private static final Logger logger = LoggerFactory.getLogger(PolicyStatusSchedulerService.class);
 
-  private final PolicyCommandService commandService;
   private final PolicyQueryService queryService;
   private final PolicyStatusService statusService;
+  private final PolicyBatchCommandService batchCommandService;
+  private final StatusUpdateShardRepository shardRepository;
+  private final PolicyMetrics metrics;
+  private final AsyncTaskExecutor taskExecutor;
+  private final int chunkSize;
+  private final int shards;
+  private final Duration lease;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  // Same identity as the projection nodes; a restarted node takes its shards back right away
+  private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
 
   public PolicyStatusSchedulerService(
-      PolicyCommandService commandService,
       PolicyQueryService queryService,
-      PolicyStatusService statusService) {
-    this.commandService = commandService;
+      PolicyStatusService statusService,
+      PolicyBatchCommandService batchCommandService,
+      StatusUpdateShardRepository shardRepository,
+      PolicyMetrics metrics,
+      @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+      @Value("${app.scheduler.status-update.chunk-size:500}") int chunkSize,
+      @Value("${app.scheduler.status-update.shards:16}") int shards,
+      @Value("${app.scheduler.status-update.lease-ms:300000}") long leaseMillis) {
     this.queryService = queryService;
     this.statusService = statusService;
+    this.batchCommandService = batchCommandService;
+    this.shardRepository = shardRepository;
+    this.metrics = metrics;
+    this.taskExecutor = taskExecutor;
+    this.chunkSize = chunkSize;
+    this.shards = shards;
+    this.lease = Duration.ofMillis(leaseMillis);
   }
 
-  // Run every day at 2:00 AM
-  @Scheduled(cron = "0 0 2 * * ?")
+  // Run every day at 2:00 AM on every node; the shards are created once and shared. The run goes
+  // to the task executor, keeping the scheduler thread free for the other periodic jobs
+  @Scheduled(cron = "${app.scheduler.status-update.cron:0 0 2 * * ?}")
   public void updatePolicyStatuses() {
-    logger.info("Starting automated policy status update process");
+    LocalDate today = LocalDate.now();
+    taskExecutor.execute(
+        () -> {
+          shardRepository.createAll(StatusUpdateShard.plan(today, shards));
+          execute(today);
+        });
+  }
+
+  // Resume a run interrupted by a restart of the node, even when it started on a previous day
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeInterruptedRun() {
+    unfinishedRun()
+        .ifPresent(
+            runDate -> {
+              logger.info("Resuming policy status update run of {}", runDate);
+              taskExecutor.execute(() -> execute(runDate));
+            });
+  }
+
+  // Takes over the shards whose node stopped renewing the lease
+  @Scheduled(
+      initialDelayString = "${app.scheduler.status-update.lease-ms:300000}",
+      fixedDelayString = "${app.scheduler.status-update.lease-ms:300000}")
+  public void takeOverAbandonedShards() {
+    if (!running.get()) {
+      unfinishedRun().ifPresent(runDate -> taskExecutor.execute(() -> execute(runDate)));
+    }
+  }
+
+  // Manual trigger for testing, runs in the background
+  public void triggerManualUpdate() {
+    logger.info("Manual policy status update triggered");
+    updatePolicyStatuses();
+  }
+
+  // Date of the latest run if it has unfinished shards, whatever the current date
+  private Optional<LocalDate> unfinishedRun() {
+    return shardRepository.findUnfinished().stream().map(StatusUpdateShard::runDate).findFirst();
+  }
+
+  // Processes shards until every unfinished one is leased to a node
+  private void execute(LocalDate runDate) {
+    if (!running.compareAndSet(false, true)) {
+      logger.warn("Policy status update already running, skipping");
+      return;
+    }
+    logger.info("Starting automated policy status update process on node {}", nodeId);
 
     try {
-      List<Policy> allPolicies = queryService.handle(new FindPoliciesNeedingStatusUpdateQuery());
-      LocalDate today = LocalDate.now();
-      int updatedCount = 0;
-
-      for (Policy policy : allPolicies) {
-        if (statusService.needsStatusUpdate(policy, today)) {
-          PolicyStatus newStatus = statusService.calculateCorrectStatus(policy, today);
-          String reason = statusService.createUpdateReason(policy, newStatus, today);
-
-          CompletableFuture<Void> updateFuture =
-              commandService.updatePolicyStatus(policy.id(), newStatus, reason);
-
-          updateFuture
-              .thenRun(
-                  () -> {
-                    logger.info(
-                        "Successfully updated policy {} from {} to {} - Reason: {}",
-                        policy.id(),
-                        policy.status(),
-                        newStatus,
-                        reason);
-                  })
-              .exceptionally(
-                  ex -> {
-                    logger.error("Failed to update policy status for {}", policy.id(), ex);
-                    return null;
-                  });
-
-          updatedCount++;
+      Optional<StatusUpdateShard> claimed;
+      while ((claimed = shardRepository.claim(runDate, nodeId, lease)).isPresent()) {
+        process(claimed.get());
+      }
+    } catch (Exception e) {
+      // The lease expires and the shard resumes from its last checkpoint
+      logger.error("Error during automated policy status update of {}", runDate, e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private void process(StatusUpdateShard shard) {
+    logger.info(
+        "Processing shard {} of the policy status update run of {} after policy {}",
+        shard.shard(),
+        shard.runDate(),
+        shard.lastPolicyId());
+    List<Policy> chunk;
+    do {
+      chunk =
+          queryService.handle(
+              new FindPoliciesNeedingStatusUpdateQuery(
+                  shard.runDate(), shard.lastPolicyId(), shard.upToPolicyId(), chunkSize));
+      if (!chunk.isEmpty()) {
+        shard = processChunk(shard, chunk);
+        if (!checkpoint(shard)) {
+          return;
         }
       }
+    } while (chunk.size() == chunkSize);
 
-      logger.info(
-          "Policy status update process completed. Triggered updates for {} policies",
-          updatedCount);
+    shard = shard.finish();
+    if (!checkpoint(shard)) {
+      return;
+    }
+    logger.info(
+        "Shard {} of the policy status update completed in {} ms: {} succeeded, {} failed",
+        shard.shard(),
+        shard.duration().toMillis(),
+        shard.succeeded(),
+        shard.failed());
+    reportIfRunCompleted(shard);
+  }
 
-    } catch (Exception e) {
-      logger.error("Error during automated policy status update", e);
+  private boolean checkpoint(StatusUpdateShard shard) {
+    if (shardRepository.saveIfOwned(shard, lease)) {
+      return true;
     }
+    // Its last chunk may be applied twice; the aggregate ignores unchanged statuses
+    logger.warn(
+        "Shard {} of the policy status update was taken over by another node after policy {}",
+        shard.shard(),
+        shard.lastPolicyId());
+    return false;
   }
 
-  // Manual trigger for testing
-  public void triggerManualUpdate() {
-    logger.info("Manual policy status update triggered");
-    updatePolicyStatuses();
+  // Reported once, by the node finishing the last shard
+  private void reportIfRunCompleted(StatusUpdateShard finished) {
+    List<StatusUpdateShard> run = shardRepository.findByRunDate(finished.runDate());
+    if (run.stream().anyMatch(shard -> !shard.isFinished())) {
+      return;
+    }
+    StatusUpdateShard lastFinished =
+        run.stream().max(Comparator.comparing(StatusUpdateShard::finishedAt)).orElseThrow();
+    if (lastFinished.shard() != finished.shard()) {
+      return;
+    }
+    OffsetDateTime startedAt =
+        run.stream().map(StatusUpdateShard::startedAt).min(Comparator.naturalOrder()).orElseThrow();
+    Duration duration = Duration.between(startedAt, finished.finishedAt());
+    metrics.statusUpdateRunCompleted(duration);
+    logger.info(
+        "Policy status update process completed in {} ms over {} shards: {} succeeded, {} failed",
+        duration.toMillis(),
+        run.size(),
+        run.stream().mapToInt(StatusUpdateShard::succeeded).sum(),
+        run.stream().mapToInt(StatusUpdateShard::failed).sum());
+  }
+
+  // Applies the chunk in one transaction and waits for it before checkpointing
+  private StatusUpdateShard processChunk(StatusUpdateShard shard, List<Policy> chunk) {
+    List<PolicyStatusUpdateCommand> commands = new ArrayList<>(chunk.size());
+    for (Policy policy : chunk) {
+      if (statusService.needsStatusUpdate(policy, shard.runDate())) {
+        PolicyStatus newStatus = statusService.calculateCorrectStatus(policy, shard.runDate());
+        String reason = statusService.createUpdateReason(policy, newStatus, shard.runDate());
+        commands.add(new PolicyStatusUpdateCommand(policy.id(), newStatus, reason));
+      }
+    }
+
+    List<PolicyCommandResult> results = batchCommandService.updateStatuses(commands);
+    int failed = 0;
+    for (PolicyCommandResult result : results) {
+      if (!result.succeeded()) {
+        failed++;
+        logger.error(
+            "Failed to update policy status for {}: {}", result.policyId(), result.error());
+      }
+    }
+    metrics.statusUpdatesCompleted(results.size() - failed, failed);
+    return shard.checkpoint(chunk.getLast().id().toUUID(), results.size() - failed, failed);
   }
 }
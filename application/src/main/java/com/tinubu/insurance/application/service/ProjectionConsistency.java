@@ -0,0 +1,30 @@
+package com.tinubu.insurance.application.service;
+
+import com.tinubu.insurance.application.queries.ConsistencyToken;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read-your-writes support between the command side and the policy projection.
+ *
+ * <p>Writers take {@link #headPosition()} before dispatching and {@link #tokenSince(long)} once the
+ * command completed: the events it stored lie in between. Readers presenting that token wait with
+ * {@link #awaitProcessed(ConsistencyToken)} until the projection has processed them.
+ */
+public interface ProjectionConsistency {
+
+  /** Position of the last event in the event store. */
+  long headPosition();
+
+  /** Token covering every event stored since {@code headBefore} was taken. */
+  ConsistencyToken tokenSince(long headBefore);
+
+  /**
+   * Completes once the projection has processed the events of the token. Dependent stages run on
+   * the application task executor.
+   *
+   * @return a future failing with {@link
+   *     com.tinubu.insurance.application.exception.ConsistencyTimeoutException} if the projection
+   *     does not catch up within the configured maximum wait
+   */
+  CompletableFuture<Void> awaitProcessed(ConsistencyToken token);
+}
@@ -0,0 +1,19 @@
+package com.tinubu.insurance.application.service;
+
+import com.tinubu.insurance.application.queries.ProjectionRebuildStatus;
+
+/**
+ * Rebuilds the policy projection from the event store into a fresh table, swapped in once complete.
+ * The current projection keeps serving reads, and being updated, until then.
+ */
+public interface ProjectionRebuild {
+
+  /**
+   * Starts a rebuild in the background.
+   *
+   * @return false if a rebuild is already running, on this node or another one
+   */
+  boolean start();
+
+  ProjectionRebuildStatus status();
+}
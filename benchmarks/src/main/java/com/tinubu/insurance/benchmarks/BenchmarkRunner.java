@@ -0,0 +1,31 @@
+package com.tinubu.insurance.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with allocation profiling and writes the results as JSON, to be compared
+ * between commits (e.g. with jmh.morethan.io).
+ *
+ * <p>Usage: {@code java -jar benchmarks/target/benchmarks.jar [include-regex] [result-file]}
+ */
+public final class BenchmarkRunner {
+
+  private static final String DEFAULT_RESULT_FILE = "benchmarks/target/jmh-result.json";
+
+  private BenchmarkRunner() {}
+
+  public static void main(String[] args) throws RunnerException {
+    ChainedOptionsBuilder options =
+        new OptionsBuilder()
+            .include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName())
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(args.length > 1 ? args[1] : DEFAULT_RESULT_FILE);
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,105 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.tinubu.insurance.application.queries.CoverageCounts;
+import com.tinubu.insurance.application.queries.CoverageHistogram;
+import com.tinubu.insurance.application.queries.CoverageWindow;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
+import com.tinubu.insurance.infrastructure.spi.analytics.PolicyColumnarAnalytics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Policies in force on each day of the last year, from the columns of {@link
+ * PolicyColumnarAnalytics} and, for reference, by checking every {@link Policy} on every day.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoverageAnalyticsBenchmark {
+
+  @Param({"100000", "1000000"})
+  private int policyCount;
+
+  private PolicyColumnarAnalytics analytics;
+  private List<Policy> policies;
+  private CoverageWindow lastYear;
+
+  @Setup
+  public void setUp() {
+    // Fed directly, without an event processor
+    analytics =
+        new PolicyColumnarAnalytics(
+            new StaticListableBeanFactory().getBeanProvider(EventProcessingConfiguration.class),
+            new SimpleMeterRegistry());
+    policies = new ArrayList<>(policyCount);
+    Random random = new Random(42);
+    LocalDate today = LocalDate.now();
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    // Policies of one to three years, started within the last four years
+    for (int i = 0; i < policyCount; i++) {
+      LocalDate startDate = today.minusDays(random.nextInt(4 * 365));
+      LocalDate endDate = startDate.plusDays(365 + random.nextInt(2 * 365));
+      PolicyStatus status = i % 4 == 0 ? PolicyStatus.INACTIVE : PolicyStatus.ACTIVE;
+      PolicyCreatedEvent event =
+          new PolicyCreatedEvent(
+              PolicyId.fromUUID(UUID.randomUUID()),
+              "Policy " + i,
+              status,
+              startDate,
+              endDate,
+              now,
+              now);
+      analytics.on(event);
+      policies.add(Policy.fromCreatedEvent(event));
+    }
+    lastYear = new CoverageWindow(today.minusDays(364), today, Set.of());
+  }
+
+  @Benchmark
+  public CoverageHistogram columnarHistogram() {
+    return analytics.coverageHistogram(lastYear);
+  }
+
+  @Benchmark
+  public CoverageCounts columnarCounts() {
+    return analytics.coverageCounts(lastYear);
+  }
+
+  @Benchmark
+  public int[] objectHistogram() {
+    int[] inForce = new int[lastYear.days()];
+    for (int day = 0; day < inForce.length; day++) {
+      LocalDate date = lastYear.from().plusDays(day);
+      inForce[day] =
+          (int) policies.stream().filter(policy -> policy.isWithinCoveragePeriod(date)).count();
+    }
+    return inForce;
+  }
+}
@@ -0,0 +1,60 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.infrastructure.spi.entities.PolicyEntity;
+import com.tinubu.insurance.infrastructure.spi.mappers.Mapper;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Conversions between the domain {@link Policy} and the JPA {@link PolicyEntity}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+  private Policy policy;
+  private PolicyEntity entity;
+
+  @Setup
+  public void setUp() {
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    policy =
+        new Policy(
+            PolicyId.fromUUID(UUID.randomUUID()),
+            "Home insurance",
+            PolicyStatus.ACTIVE,
+            LocalDate.now().minusMonths(1),
+            LocalDate.now().plusMonths(11),
+            now,
+            now);
+    entity = Mapper.toPolicyEntity(policy);
+  }
+
+  @Benchmark
+  public Policy toPolicy() {
+    return Mapper.toPolicy(entity);
+  }
+
+  @Benchmark
+  public PolicyEntity toPolicyEntity() {
+    return Mapper.toPolicyEntity(policy);
+  }
+}
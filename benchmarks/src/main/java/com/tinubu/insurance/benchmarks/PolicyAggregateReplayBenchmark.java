@@ -0,0 +1,145 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
+import com.tinubu.insurance.infrastructure.spi.aggregates.PolicyAggregate;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.EventSourcedAggregate;
+import org.axonframework.eventsourcing.GenericAggregateFactory;
+import org.axonframework.eventsourcing.NoSnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.eventstore.DomainEventStream;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading a {@link PolicyAggregate} from its event stream, as the repository does before every
+ * command, with and without a snapshot. With a snapshot, the snapshot is deserialized and only the
+ * events after it are replayed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyAggregateReplayBenchmark {
+
+  private static final String AGGREGATE_TYPE = PolicyAggregate.class.getSimpleName();
+
+  @Param({"10", "100", "1000"})
+  private int eventCount;
+
+  // 0 disables snapshots, otherwise matches app.axon.snapshot.threshold
+  @Param({"0", "50"})
+  private int snapshotThreshold;
+
+  private AggregateModel<PolicyAggregate> model;
+  private GenericAggregateFactory<PolicyAggregate> factory;
+  private JacksonSerializer serializer;
+  private List<DomainEventMessage<?>> events;
+  private SerializedObject<byte[]> snapshot;
+  private List<DomainEventMessage<?>> eventsAfterSnapshot;
+
+  @Setup
+  public void setUp() {
+    model = AnnotatedAggregateMetaModelFactory.inspectAggregate(PolicyAggregate.class);
+    factory = new GenericAggregateFactory<>(model);
+    serializer =
+        JacksonSerializer.builder()
+            .objectMapper(
+                new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES))
+            .build();
+
+    PolicyId policyId = PolicyId.fromUUID(UUID.randomUUID());
+    String aggregateId = policyId.toString();
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    events = new ArrayList<>(eventCount);
+    events.add(
+        new GenericDomainEventMessage<>(
+            AGGREGATE_TYPE,
+            aggregateId,
+            0,
+            new PolicyCreatedEvent(
+                policyId,
+                "Home insurance",
+                PolicyStatus.ACTIVE,
+                LocalDate.now().minusYears(1),
+                LocalDate.now().plusYears(1),
+                now,
+                now)));
+    // Daily status flips, the longest streams in production
+    for (int sequence = 1; sequence < eventCount; sequence++) {
+      boolean active = sequence % 2 == 0;
+      events.add(
+          new GenericDomainEventMessage<>(
+              AGGREGATE_TYPE,
+              aggregateId,
+              sequence,
+              new PolicyStatusUpdatedEvent(
+                  policyId,
+                  active ? PolicyStatus.INACTIVE : PolicyStatus.ACTIVE,
+                  active ? PolicyStatus.ACTIVE : PolicyStatus.INACTIVE,
+                  "Benchmark",
+                  now)));
+    }
+
+    if (snapshotThreshold > 0) {
+      int snapshotSize = eventCount - eventCount % snapshotThreshold;
+      if (snapshotSize == eventCount) {
+        snapshotSize -= snapshotThreshold; // The last event is never in the snapshot
+      }
+      snapshotSize = Math.max(snapshotSize, 1);
+      snapshot = serializer.serialize(replay(events.subList(0, snapshotSize)), byte[].class);
+      eventsAfterSnapshot = events.subList(snapshotSize, eventCount);
+    }
+  }
+
+  @Benchmark
+  public PolicyAggregate load() throws Exception {
+    if (snapshot == null) {
+      return replay(events);
+    }
+    PolicyAggregate root = serializer.deserialize(snapshot);
+    EventSourcedAggregate<PolicyAggregate> aggregate =
+        EventSourcedAggregate.initialize(root, model, null, NoSnapshotTriggerDefinition.TRIGGER);
+    aggregate.initializeState(DomainEventStream.of(eventsAfterSnapshot));
+    return aggregate.getAggregateRoot();
+  }
+
+  private PolicyAggregate replay(List<DomainEventMessage<?>> stream) {
+    PolicyAggregate root =
+        factory.createAggregateRoot(stream.getFirst().getAggregateIdentifier(), stream.getFirst());
+    EventSourcedAggregate<PolicyAggregate> aggregate =
+        EventSourcedAggregate.initialize(root, model, null, NoSnapshotTriggerDefinition.TRIGGER);
+    aggregate.initializeState(DomainEventStream.of(stream));
+    return aggregate.getAggregateRoot();
+  }
+}
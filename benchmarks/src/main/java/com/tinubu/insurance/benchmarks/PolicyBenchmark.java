@@ -0,0 +1,77 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Construction, validation and immutable updates of the {@link Policy} record. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PolicyBenchmark {
+
+  private PolicyId policyId;
+  private UUID policyIdValue;
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private OffsetDateTime timestamp;
+  private Policy policy;
+
+  @Setup
+  public void setUp() {
+    policyId = PolicyId.fromUUID(UUID.randomUUID());
+    policyIdValue = policyId.value();
+    startDate = LocalDate.now().minusMonths(1);
+    endDate = LocalDate.now().plusMonths(11);
+    timestamp = OffsetDateTime.now(ZoneOffset.UTC);
+    policy =
+        new Policy(
+            policyId,
+            "Home insurance",
+            PolicyStatus.ACTIVE,
+            startDate,
+            endDate,
+            timestamp,
+            timestamp);
+  }
+
+  // Canonical constructor, runs every Validator check
+  @Benchmark
+  public Policy construct() {
+    return new Policy(
+        policyId, "Home insurance", PolicyStatus.ACTIVE, startDate, endDate, timestamp, timestamp);
+  }
+
+  @Benchmark
+  public Policy update() {
+    return policy.update("Home insurance premium", PolicyStatus.ACTIVE, startDate, endDate);
+  }
+
+  @Benchmark
+  public Policy updateStatus() {
+    return policy.updateStatus(PolicyStatus.INACTIVE);
+  }
+
+  @Benchmark
+  public UUID policyIdToUuid() {
+    return new PolicyId(policyIdValue).toUUID();
+  }
+}
@@ -0,0 +1,75 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.tinubu.insurance.application.service.PolicyStatusService;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Status evaluation of the daily job over portfolios of increasing size. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyStatusServiceBenchmark {
+
+  @Param({"1000", "100000"})
+  private int policyCount;
+
+  private final PolicyStatusService statusService = new PolicyStatusService();
+  private final LocalDate today = LocalDate.now();
+  private List<Policy> policies;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    policies = new ArrayList<>(policyCount);
+    for (int i = 0; i < policyCount; i++) {
+      // Coverage periods spread around today, so every branch is taken
+      LocalDate startDate = today.plusDays(random.nextInt(-730, 365));
+      LocalDate endDate = startDate.plusDays(random.nextInt(1, 730));
+      PolicyStatus status = random.nextBoolean() ? PolicyStatus.ACTIVE : PolicyStatus.INACTIVE;
+      policies.add(
+          new Policy(
+              PolicyId.fromUUID(UUID.randomUUID()),
+              "Policy " + i,
+              status,
+              startDate,
+              endDate,
+              now,
+              now));
+    }
+  }
+
+  @Benchmark
+  public int needsStatusUpdate() {
+    int count = 0;
+    for (Policy policy : policies) {
+      if (statusService.needsStatusUpdate(policy, today)) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,172 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
+import com.tinubu.insurance.infrastructure.spi.config.PolicySequencingPolicy;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.SimpleEventHandlerInvoker;
+import org.axonframework.eventhandling.pooled.PooledStreamingEventProcessor;
+import org.axonframework.eventhandling.tokenstore.inmemory.InMemoryTokenStore;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Replay of the policy projection from the tail of an in-memory event store, by a pooled processor
+ * configured like {@code policy-projection}. The handler burns a little CPU per event and waits
+ * once per batch, standing for the JDBC flush of {@code PolicyProjectionWriter}. Reported per
+ * event: the throughput is its inverse.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionReplayBenchmark {
+
+  private static final int EVENT_COUNT = 20_000;
+  private static final int POLICY_COUNT = 1_000;
+  private static final int BATCH_SIZE = 100;
+
+  @Param({"1", "2", "4", "8"})
+  private int segments;
+
+  // Stand-in for the flush round trip to the database, per batch
+  @Param({"2"})
+  private int flushMillis;
+
+  private EmbeddedEventStore eventStore;
+  private long headPosition;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    eventStore =
+        EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
+    List<PolicyId> policies = new ArrayList<>(POLICY_COUNT);
+    for (int i = 0; i < POLICY_COUNT; i++) {
+      policies.add(PolicyId.fromUUID(UUID.randomUUID()));
+    }
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    List<EventMessage<?>> events = new ArrayList<>(EVENT_COUNT);
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      boolean active = i % 2 == 0;
+      events.add(
+          GenericEventMessage.asEventMessage(
+              new PolicyStatusUpdatedEvent(
+                  policies.get(i % POLICY_COUNT),
+                  active ? PolicyStatus.INACTIVE : PolicyStatus.ACTIVE,
+                  active ? PolicyStatus.ACTIVE : PolicyStatus.INACTIVE,
+                  "Benchmark",
+                  now)));
+    }
+    eventStore.publish(events);
+    headPosition = eventStore.createHeadToken().position().orElseThrow();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    eventStore.shutDown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENT_COUNT)
+  public void replay(Blackhole blackhole) throws InterruptedException {
+    ScheduledExecutorService coordinator = Executors.newSingleThreadScheduledExecutor();
+    ScheduledExecutorService workers = Executors.newScheduledThreadPool(segments);
+    PooledStreamingEventProcessor processor =
+        PooledStreamingEventProcessor.builder()
+            .name("policy-projection")
+            .eventHandlerInvoker(
+                SimpleEventHandlerInvoker.builder()
+                    .eventHandlers(new SimulatedProjection(blackhole, flushMillis))
+                    .sequencingPolicy(new PolicySequencingPolicy())
+                    .build())
+            .messageSource(eventStore)
+            .tokenStore(new InMemoryTokenStore())
+            .transactionManager(NoTransactionManager.instance())
+            .coordinatorExecutor(coordinator)
+            .workerExecutor(workers)
+            .initialSegmentCount(segments)
+            .maxClaimedSegments(segments)
+            .batchSize(BATCH_SIZE)
+            .initialToken(StreamableMessageSource::createTailToken)
+            .build();
+    processor.start();
+    try {
+      while (!caughtUp(processor.processingStatus())) {
+        TimeUnit.MILLISECONDS.sleep(1);
+      }
+    } finally {
+      processor.shutDown();
+      coordinator.shutdownNow();
+      workers.shutdownNow();
+    }
+  }
+
+  private boolean caughtUp(Map<Integer, EventTrackerStatus> status) {
+    if (status.size() < segments) {
+      return false;
+    }
+    return status.values().stream()
+        .allMatch(segment -> segment.getCurrentPosition().orElse(-1L) >= headPosition);
+  }
+
+  public static class SimulatedProjection {
+
+    private static final String FLUSH_RESOURCE = "benchmark.flush";
+
+    private final Blackhole blackhole;
+    private final long flushNanos;
+
+    SimulatedProjection(Blackhole blackhole, int flushMillis) {
+      this.blackhole = blackhole;
+      this.flushNanos = TimeUnit.MILLISECONDS.toNanos(flushMillis);
+    }
+
+    @EventHandler
+    public void on(PolicyStatusUpdatedEvent event) {
+      Blackhole.consumeCPU(500);
+      blackhole.consume(event.policyId());
+      UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+      unitOfWork.getOrComputeResource(
+          FLUSH_RESOURCE,
+          key -> {
+            unitOfWork.onPrepareCommit(uow -> LockSupport.parkNanos(flushNanos));
+            return Boolean.TRUE;
+          });
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.tinubu.insurance.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyUpdatedEvent;
+import com.tinubu.insurance.infrastructure.spi.config.FormatSniffingSerializer;
+import com.tinubu.insurance.infrastructure.spi.config.FormatSniffingSerializer.Format;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.serialization.AnnotationRevisionResolver;
+import org.axonframework.serialization.SerializedObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Event payloads through {@link FormatSniffingSerializer}, as stored in and read back from the
+ * event store, in JSON and in Smile. Deserializing the whole mix stands for a replay. The average
+ * payload size of each format is printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+  private static final int EVENT_COUNT = 1_000;
+
+  @Param({"json", "smile"})
+  private String format;
+
+  private FormatSniffingSerializer serializer;
+  private List<PolicyEvent> events;
+  private List<SerializedObject<byte[]>> serialized;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    // Same settings as AxonConfig
+    ObjectMapper json = configure(new ObjectMapper());
+    ObjectMapper smile =
+        configure(new ObjectMapper(new SmileFactory()))
+            .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    serializer =
+        new FormatSniffingSerializer(
+            json, smile, Format.fromString(format), new AnnotationRevisionResolver());
+
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    LocalDate today = LocalDate.now();
+    events = new ArrayList<>(EVENT_COUNT);
+    // Mix of a production stream: one creation, one update, then status flips
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      PolicyId policyId = PolicyId.fromUUID(UUID.randomUUID());
+      events.add(
+          switch (i % 10) {
+            case 0 ->
+                new PolicyCreatedEvent(
+                    policyId,
+                    "Home insurance " + i,
+                    PolicyStatus.ACTIVE,
+                    today,
+                    today.plusYears(1),
+                    now,
+                    now);
+            case 1 ->
+                new PolicyUpdatedEvent(
+                    policyId,
+                    "Home insurance " + i,
+                    PolicyStatus.INACTIVE,
+                    today.plusDays(1),
+                    today.plusYears(1),
+                    now);
+            default ->
+                new PolicyStatusUpdatedEvent(
+                    policyId,
+                    PolicyStatus.INACTIVE,
+                    PolicyStatus.ACTIVE,
+                    "Policy status updated based on dates",
+                    now);
+          });
+    }
+
+    serialized = new ArrayList<>(EVENT_COUNT);
+    long bytes = 0;
+    for (PolicyEvent event : events) {
+      SerializedObject<byte[]> data = serializer.serialize(event, byte[].class);
+      serialized.add(data);
+      bytes += data.getData().length;
+    }
+    System.out.printf("%n%s: %d bytes per event on average%n", format, bytes / EVENT_COUNT);
+  }
+
+  private static ObjectMapper configure(ObjectMapper mapper) {
+    return mapper
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  }
+
+  @Benchmark
+  public SerializedObject<byte[]> serialize() {
+    next = (next + 1) % EVENT_COUNT;
+    return serializer.serialize(events.get(next), byte[].class);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENT_COUNT)
+  public void replay(Blackhole blackhole) {
+    for (SerializedObject<byte[]> data : serialized) {
+      blackhole.consume(serializer.<byte[], PolicyEvent>deserialize(data));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+// Mixed read/write load on the policy API, used to compare the platform and virtual thread modes.
+//   docker run --rm -i --network host -e BASE_URL=http://localhost:8081/insurance-policies \
+//     grafana/k6 run - < docker/load/policies.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081/insurance-policies';
+const RATE = Number(__ENV.RATE || 500);
+const DURATION = __ENV.DURATION || '2m';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    mixed: {
+      // Fixed arrival rate, so both modes receive exactly the same load
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function policy(i) {
+  const today = new Date().toISOString().slice(0, 10);
+  return { name: `Load test policy ${i}`, status: 'ACTIVE', startDate: today, endDate: '2099-12-31' };
+}
+
+export function setup() {
+  const items = Array.from({ length: 500 }, (_, i) => ({ operation: 'CREATE', ...policy(i) }));
+  const res = http.post(`${BASE_URL}/api/v1/policies:batch`, JSON.stringify({ items }), JSON_HEADERS);
+  return { ids: res.json('results').filter((r) => r.succeeded).map((r) => r.policyId) };
+}
+
+export default function (data) {
+  const roll = Math.random();
+  if (roll < 0.7) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    check(http.get(`${BASE_URL}/api/v1/policies/${id}`), { 'get 200': (r) => r.status === 200 });
+  } else if (roll < 0.9) {
+    check(http.get(`${BASE_URL}/api/v1/policies?limit=50`), { 'list 200': (r) => r.status === 200 });
+  } else {
+    const res = http.post(`${BASE_URL}/api/v1/policies`, JSON.stringify(policy(__ITER)), JSON_HEADERS);
+    check(res, { 'create 2xx': (r) => r.status >= 200 && r.status < 300 });
+  }
+}
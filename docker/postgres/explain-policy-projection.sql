@@ -0,0 +1,129 @@
+-- Query plans of the policy_projection read paths, run against a local database with
+-- `make explain-queries`. The statements are the ones Hibernate generates, with literals in place
+-- of the bound parameters; pages after the first start half way through the rows they read, as a
+-- deep page does. Each statement is expected to use the index named above it, and the page-after
+-- ones to seek on it (an Index Cond, not a Filter); `make test-query-plans` fails when one does
+-- not.
+\set ON_ERROR_STOP on
+
+ANALYZE policy_projection;
+
+-- Positions half way through the rows each page-after path reads, as psql variables; \gset stops
+-- the script when the projection is empty
+SELECT created_at AS page_created_at, policy_id AS page_created_policy_id
+FROM policy_projection
+ORDER BY created_at, policy_id
+OFFSET (SELECT count(*) / 2 FROM policy_projection) LIMIT 1
+\gset
+SELECT end_date AS expiring_end_date, policy_id AS expiring_policy_id
+FROM policy_projection
+WHERE end_date BETWEEN current_date AND current_date + 30
+ORDER BY end_date, policy_id
+OFFSET (SELECT count(*) / 2 FROM policy_projection
+        WHERE end_date BETWEEN current_date AND current_date + 30) LIMIT 1
+\gset
+SELECT end_date AS search_end_date, policy_id AS search_policy_id
+FROM policy_projection
+WHERE status = 'ACTIVE'
+ORDER BY end_date DESC, policy_id DESC
+OFFSET (SELECT count(*) / 2 FROM policy_projection WHERE status = 'ACTIVE') LIMIT 1
+\gset
+SELECT projected_at AS refresh_projected_at, policy_id AS refresh_policy_id
+FROM policy_projection
+WHERE projected_at >= now() - interval '1 day'
+ORDER BY projected_at, policy_id
+OFFSET (SELECT count(*) / 2 FROM policy_projection WHERE projected_at >= now() - interval '1 day')
+LIMIT 1
+\gset
+
+-- idx_policy_projection_status (findByStatus)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.status='INACTIVE';
+
+-- idx_policy_projection_end_date_policy_id (findExpiredPolicies)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.end_date<current_date;
+
+-- idx_policy_projection_end_date_policy_id (findPoliciesExpiringBetween)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.end_date between current_date and current_date + 30
+order by pe1_0.end_date,pe1_0.policy_id
+fetch first 51 rows only;
+
+-- idx_policy_projection_end_date_policy_id, seek on ROW(end_date, policy_id)
+-- (findPoliciesExpiringBetweenAfter)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.end_date between current_date and current_date + 30
+  and (pe1_0.end_date,pe1_0.policy_id)>(:'expiring_end_date',:'expiring_policy_id')
+order by pe1_0.end_date,pe1_0.policy_id
+fetch first 51 rows only;
+
+-- idx_policy_projection_created_at_policy_id (findFirstPage)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+order by pe1_0.created_at,pe1_0.policy_id
+fetch first 51 rows only;
+
+-- idx_policy_projection_created_at_policy_id, seek on ROW(created_at, policy_id) (findPageAfter)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where (pe1_0.created_at,pe1_0.policy_id)>(:'page_created_at',:'page_created_policy_id')
+order by pe1_0.created_at,pe1_0.policy_id
+fetch first 51 rows only;
+
+-- idx_policy_projection_end_date_policy_id, backwards (search, sorted by descending end date)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.status in ('ACTIVE')
+order by pe1_0.end_date desc,pe1_0.policy_id desc
+fetch first 51 rows only;
+
+-- idx_policy_projection_end_date_policy_id, backwards, seek on end_date <= (search next page)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.status in ('ACTIVE')
+  and pe1_0.end_date<=:'search_end_date'
+  and (pe1_0.end_date<:'search_end_date'
+    or pe1_0.end_date=:'search_end_date' and pe1_0.policy_id<:'search_policy_id')
+order by pe1_0.end_date desc,pe1_0.policy_id desc
+fetch first 51 rows only;
+
+-- idx_policy_projection_next_status_transition_date (findPoliciesNeedingStatusUpdate, first shard)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.next_status_transition_date<=current_date
+  and pe1_0.policy_id>'00000000-0000-0000-0000-000000000000'
+  and pe1_0.policy_id<='0fffffff-ffff-ffff-ffff-ffffffffffff'
+order by pe1_0.policy_id
+fetch first 500 rows only;
+
+-- idx_policy_projection_projected_at_policy_id (findProjectedSince, heap read model refresh)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.projected_at>=now() - interval '1 minute'
+order by pe1_0.projected_at,pe1_0.policy_id
+fetch first 1000 rows only;
+
+-- idx_policy_projection_projected_at_policy_id, seek on ROW(projected_at, policy_id)
+-- (findProjectedSinceAfter, next batch of the refresh)
+EXPLAIN (ANALYZE, BUFFERS)
+select pe1_0.policy_id,pe1_0.created_at,pe1_0.end_date,pe1_0.name,pe1_0.next_status_transition_date,pe1_0.projected_at,pe1_0.start_date,pe1_0.status,pe1_0.updated_at
+from policy_projection pe1_0
+where pe1_0.projected_at>=now() - interval '1 day'
+  and (pe1_0.projected_at,pe1_0.policy_id)>(:'refresh_projected_at',:'refresh_policy_id')
+order by pe1_0.projected_at,pe1_0.policy_id
+fetch first 1000 rows only;
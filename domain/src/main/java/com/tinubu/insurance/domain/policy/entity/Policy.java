@@ -106,6 +106,37 @@ public record Policy(
     return !this.status.equals(calculatedStatus);
   }
 
+  // First date, from currentDate on, at which the status no longer matches the dates
+  public LocalDate nextStatusTransitionDate(LocalDate currentDate) {
+    return nextStatusTransitionDate(status, startDate, endDate, currentDate);
+  }
+
+  /**
+   * First date, from {@code currentDate} on, at which {@code status} no longer matches the coverage
+   * period: the date the status job has to pick the policy up.
+   *
+   * @return {@code currentDate} if the status is already wrong, null if it never becomes wrong
+   */
+  public static LocalDate nextStatusTransitionDate(
+      PolicyStatus status, LocalDate startDate, LocalDate endDate, LocalDate currentDate) {
+    requireNonNull(status, "status");
+    requireNonNull(currentDate, "currentDate");
+
+    if (status == PolicyStatus.ACTIVE) {
+      if (currentDate.isBefore(startDate) || currentDate.isAfter(endDate)) {
+        return currentDate; // Should already be inactive
+      }
+      return endDate.plusDays(1); // Expires the day after the end date
+    }
+    if (currentDate.isBefore(startDate)) {
+      return startDate; // Starts on the start date
+    }
+    if (!currentDate.isAfter(endDate)) {
+      return currentDate; // Should already be active
+    }
+    return null; // Expired, stays inactive
+  }
+
   // Check if policy is currently active
   public boolean isActive() {
     return status == PolicyStatus.ACTIVE;
@@ -1,19 +1,26 @@
 package com.tinubu.insurance.domain.policy.entity;
 
-import static com.tinubu.insurance.domain.validation.Validator.requireNonNullAndNonBlank;
+import static com.tinubu.insurance.domain.validation.Validator.requireNonNull;
 
 import java.util.UUID;
 
-public record PolicyId(String value) {
+/**
+ * Policy identifier, held as a {@link UUID} so that no layer parses it back from a string.
+ *
+ * <p>The JSON form ({@code {"value": "<uuid>"}}) and {@link #toString()} ({@code
+ * PolicyId[value=<uuid>]}, Axon's aggregate identifier) are the same as when the value was a
+ * string, so stored events and aggregate streams still resolve.
+ */
+public record PolicyId(UUID value) {
   public PolicyId {
-    requireNonNullAndNonBlank(value, "insuranceIdValue");
+    requireNonNull(value, "insuranceIdValue");
   }
 
   public static PolicyId fromUUID(UUID uuid) {
-    return new PolicyId(uuid.toString());
+    return new PolicyId(uuid);
   }
 
   public UUID toUUID() {
-    return UUID.fromString(value);
+    return value;
   }
 }
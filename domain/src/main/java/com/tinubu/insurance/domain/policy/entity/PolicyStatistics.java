@@ -0,0 +1,36 @@
+package com.tinubu.insurance.domain.policy.entity;
+
+import static com.tinubu.insurance.domain.validation.Validator.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Portfolio counters, maintained incrementally by the projection.
+ *
+ * @param total number of policies
+ * @param byStatus number of policies per status
+ * @param startingByMonth number of policies per month of their start date
+ * @param endingByMonth number of policies per month of their end date
+ */
+public record PolicyStatistics(
+    long total,
+    SortedMap<PolicyStatus, Long> byStatus,
+    SortedMap<YearMonth, Long> startingByMonth,
+    SortedMap<YearMonth, Long> endingByMonth) {
+
+  public PolicyStatistics {
+    requireNonNull(byStatus, "byStatus");
+    requireNonNull(startingByMonth, "startingByMonth");
+    requireNonNull(endingByMonth, "endingByMonth");
+    byStatus = Collections.unmodifiableSortedMap(new TreeMap<>(byStatus));
+    startingByMonth = Collections.unmodifiableSortedMap(new TreeMap<>(startingByMonth));
+    endingByMonth = Collections.unmodifiableSortedMap(new TreeMap<>(endingByMonth));
+  }
+
+  public long countByStatus(PolicyStatus status) {
+    return byStatus.getOrDefault(status, 0L);
+  }
+}
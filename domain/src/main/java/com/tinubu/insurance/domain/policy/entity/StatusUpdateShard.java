@@ -0,0 +1,115 @@
+package com.tinubu.insurance.domain.policy.entity;
+
+import static com.tinubu.insurance.domain.validation.Validator.requireNonNull;
+
+import com.tinubu.insurance.domain.policy.exception.PolicyValidationException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of one shard of the daily policy status update job. The policy id space is split in
+ * contiguous ranges, each processed by a single node at a time. Checkpointed after every chunk so
+ * that an interrupted shard resumes after the last completed chunk, on any node.
+ *
+ * @param runDate the date the statuses are evaluated against
+ * @param shard index of the shard in the run
+ * @param lastPolicyId the highest policy id of the last completed chunk, exclusive lower bound of
+ *     the next one
+ * @param upToPolicyId inclusive upper bound of the shard
+ * @param succeeded number of status updates that succeeded so far
+ * @param failed number of status updates that failed so far
+ * @param startedAt when the run started
+ * @param finishedAt when the shard finished, null while in progress
+ * @param owner the node processing the shard, null until claimed
+ */
+public record StatusUpdateShard(
+    LocalDate runDate,
+    int shard,
+    UUID lastPolicyId,
+    UUID upToPolicyId,
+    int succeeded,
+    int failed,
+    OffsetDateTime startedAt,
+    OffsetDateTime finishedAt,
+    String owner) {
+
+  // Policy ids compare as unsigned bytes, like the uuid ordering of PostgreSQL
+  private static final UUID FIRST_POLICY_ID = new UUID(0L, 0L);
+  private static final UUID LAST_POLICY_ID = new UUID(-1L, -1L);
+  private static final BigInteger HIGH_BITS_RANGE = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+  public StatusUpdateShard {
+    requireNonNull(runDate, "runDate");
+    requireNonNull(lastPolicyId, "lastPolicyId");
+    requireNonNull(upToPolicyId, "upToPolicyId");
+    requireNonNull(startedAt, "startedAt");
+  }
+
+  /** Splits the policy id space in {@code shards} ranges of the same width. */
+  public static List<StatusUpdateShard> plan(LocalDate runDate, int shards) {
+    if (shards < 1 || shards > 1 << 16) {
+      throw new PolicyValidationException(
+          "shards must be between 1 and 65536, got %d".formatted(shards));
+    }
+    OffsetDateTime startedAt = OffsetDateTime.now(ZoneOffset.UTC);
+    List<StatusUpdateShard> plan = new ArrayList<>(shards);
+    UUID after = FIRST_POLICY_ID;
+    for (int shard = 0; shard < shards; shard++) {
+      UUID upTo = shard == shards - 1 ? LAST_POLICY_ID : lastPolicyIdOf(shard, shards);
+      plan.add(new StatusUpdateShard(runDate, shard, after, upTo, 0, 0, startedAt, null, null));
+      after = upTo;
+    }
+    return plan;
+  }
+
+  // Highest id whose most significant bits fall in the shard
+  private static UUID lastPolicyIdOf(int shard, int shards) {
+    long highBits =
+        BigInteger.valueOf(shard + 1L)
+            .multiply(HIGH_BITS_RANGE)
+            .divide(BigInteger.valueOf(shards))
+            .longValue();
+    return new UUID(highBits - 1, -1L);
+  }
+
+  // Records a completed chunk
+  public StatusUpdateShard checkpoint(UUID chunkLastPolicyId, int chunkSucceeded, int chunkFailed) {
+    return new StatusUpdateShard(
+        runDate,
+        shard,
+        chunkLastPolicyId,
+        upToPolicyId,
+        succeeded + chunkSucceeded,
+        failed + chunkFailed,
+        startedAt,
+        null,
+        owner);
+  }
+
+  public StatusUpdateShard finish() {
+    return new StatusUpdateShard(
+        runDate,
+        shard,
+        lastPolicyId,
+        upToPolicyId,
+        succeeded,
+        failed,
+        startedAt,
+        OffsetDateTime.now(ZoneOffset.UTC),
+        owner);
+  }
+
+  public boolean isFinished() {
+    return finishedAt != null;
+  }
+
+  public Duration duration() {
+    return Duration.between(startedAt, isFinished() ? finishedAt : OffsetDateTime.now());
+  }
+}
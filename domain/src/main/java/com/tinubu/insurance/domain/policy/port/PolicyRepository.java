@@ -1,9 +1,13 @@
 package com.tinubu.insurance.domain.policy.port;
 
 import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PolicyRepository<Policy, UUID> {
 
@@ -11,15 +15,70 @@ public interface PolicyRepository<Policy, UUID> {
 
   List<Policy> findAll();
 
-  List<Policy> findPoliciesNeedingStatusUpdate();
+  /** First page of the keyset ordered by (createdAt, policyId). */
+  List<Policy> findFirstPage(int limit);
+
+  /** Page of the keyset ordered by (createdAt, policyId), strictly after the given position. */
+  List<Policy> findPageAfter(OffsetDateTime createdAt, UUID policyId, int limit);
+
+  /**
+   * Page of the policies matching the criteria, in the keyset ordered by (sort field, policyId).
+   * Starts strictly after the given position, or at the beginning when afterPolicyId is null.
+   */
+  List<Policy> search(
+      PolicySearchCriteria criteria,
+      PolicySort sort,
+      Comparable<?> afterValue,
+      UUID afterPolicyId,
+      int limit);
+
+  /**
+   * Forward-only stream over every policy. Must be consumed inside a transaction and closed by the
+   * caller.
+   */
+  Stream<Policy> streamAll();
+
+  /**
+   * Chunk of the policies whose next status transition is due on or before the given date, with a
+   * policyId in (afterPolicyId, upToPolicyId], ordered by policyId.
+   */
+  List<Policy> findPoliciesNeedingStatusUpdate(
+      LocalDate dueOn, UUID afterPolicyId, UUID upToPolicyId, int limit);
 
   List<Policy> findByStatus(PolicyStatus status);
 
   List<Policy> findExpiredPolicies();
 
-  List<Policy> findPoliciesExpiringBetween(LocalDate startDate, LocalDate endDate);
+  /**
+   * First page of the policies ending between the two dates (both inclusive), in the keyset ordered
+   * by (endDate, policyId).
+   */
+  List<Policy> findPoliciesExpiringBetween(LocalDate startDate, LocalDate endDate, int limit);
+
+  /**
+   * Page of the policies ending between the two dates (both inclusive), in the keyset ordered by
+   * (endDate, policyId), strictly after the given position.
+   */
+  List<Policy> findPoliciesExpiringBetweenAfter(
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalDate afterEndDate,
+      UUID afterPolicyId,
+      int limit);
 
   long countByStatus(PolicyStatus status);
 
   void save(Policy policy);
+
+  /** Overwrites every column but createdAt of an existing policy, without reading it first. */
+  void updateDetails(
+      UUID policyId,
+      String name,
+      PolicyStatus status,
+      LocalDate startDate,
+      LocalDate endDate,
+      OffsetDateTime updatedAt);
+
+  /** Overwrites the status of an existing policy, without reading it first. */
+  void updateStatus(UUID policyId, PolicyStatus status, OffsetDateTime updatedAt);
 }
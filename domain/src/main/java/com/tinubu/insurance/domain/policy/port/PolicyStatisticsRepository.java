@@ -0,0 +1,12 @@
+package com.tinubu.insurance.domain.policy.port;
+
+import com.tinubu.insurance.domain.policy.entity.PolicyStatistics;
+
+public interface PolicyStatisticsRepository {
+
+  /** Reads the counters, without scanning the policies. */
+  PolicyStatistics load();
+
+  /** Recomputes every counter from the policies, replacing the incremental values. */
+  PolicyStatistics reconcile();
+}
@@ -0,0 +1,39 @@
+package com.tinubu.insurance.domain.policy.port;
+
+import com.tinubu.insurance.domain.policy.entity.StatusUpdateShard;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shards of the daily status update runs, shared by every node. Leases are timed by the database
+ * clock, so the clocks of the nodes do not need to agree.
+ */
+public interface StatusUpdateShardRepository {
+
+  List<StatusUpdateShard> findByRunDate(LocalDate runDate);
+
+  /**
+   * Unfinished shards of the latest run, empty when that run is finished or there is none. An older
+   * run is superseded by a newer one, which updates every policy due by its own date.
+   */
+  List<StatusUpdateShard> findUnfinished();
+
+  /** Inserts the shards of a run, except the ones another node already inserted. */
+  void createAll(List<StatusUpdateShard> shards);
+
+  /**
+   * Leases an unfinished shard of the run to the owner: one that is unclaimed, already owned by it,
+   * or whose lease expired. Empty when every unfinished shard is leased to another node.
+   */
+  Optional<StatusUpdateShard> claim(LocalDate runDate, String owner, Duration lease);
+
+  /**
+   * Saves the progress of a shard and renews its lease, unless another node took it over in the
+   * meantime.
+   *
+   * @return false when the shard is no longer owned by {@link StatusUpdateShard#owner()}
+   */
+  boolean saveIfOwned(StatusUpdateShard shard, Duration lease);
+}
@@ -0,0 +1,36 @@
+package com.tinubu.insurance.domain.policy.search;
+
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * Filters of a policy search. Null bounds and an empty status set match every policy; bounds are
+ * inclusive.
+ *
+ * @param statuses statuses to keep
+ * @param startDateFrom lowest start date
+ * @param startDateTo highest start date
+ * @param endDateFrom lowest end date
+ * @param endDateTo highest end date
+ * @param createdFrom lowest creation time
+ * @param createdTo highest creation time
+ * @param updatedFrom lowest last update time
+ * @param updatedTo highest last update time
+ */
+public record PolicySearchCriteria(
+    Set<PolicyStatus> statuses,
+    LocalDate startDateFrom,
+    LocalDate startDateTo,
+    LocalDate endDateFrom,
+    LocalDate endDateTo,
+    OffsetDateTime createdFrom,
+    OffsetDateTime createdTo,
+    OffsetDateTime updatedFrom,
+    OffsetDateTime updatedTo) {
+
+  public PolicySearchCriteria {
+    statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+  }
+}
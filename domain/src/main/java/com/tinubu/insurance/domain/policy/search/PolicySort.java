@@ -0,0 +1,13 @@
+package com.tinubu.insurance.domain.policy.search;
+
+import static com.tinubu.insurance.domain.validation.Validator.requireNonNull;
+
+/** Order of a policy search; ties are broken by policyId in the same direction. */
+public record PolicySort(PolicySortField field, boolean descending) {
+
+  public static final PolicySort DEFAULT = new PolicySort(PolicySortField.CREATED_AT, false);
+
+  public PolicySort {
+    requireNonNull(field, "field");
+  }
+}
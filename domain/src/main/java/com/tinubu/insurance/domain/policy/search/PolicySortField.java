@@ -0,0 +1,41 @@
+package com.tinubu.insurance.domain.policy.search;
+
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.function.Function;
+
+/** Orders a policy search can use, each backed by an index on (column, policy_id). */
+public enum PolicySortField {
+  CREATED_AT("createdAt", Policy::createdAt, OffsetDateTime::parse),
+  UPDATED_AT("updatedAt", Policy::updatedAt, OffsetDateTime::parse),
+  START_DATE("startDate", Policy::startDate, LocalDate::parse),
+  END_DATE("endDate", Policy::endDate, LocalDate::parse);
+
+  private final String property;
+  private final Function<Policy, Comparable<?>> extractor;
+  private final Function<String, Comparable<?>> parser;
+
+  PolicySortField(
+      String property,
+      Function<Policy, Comparable<?>> extractor,
+      Function<String, Comparable<?>> parser) {
+    this.property = property;
+    this.extractor = extractor;
+    this.parser = parser;
+  }
+
+  /** Name of the policy property, also used by the read model. */
+  public String property() {
+    return property;
+  }
+
+  public Comparable<?> valueOf(Policy policy) {
+    return extractor.apply(policy);
+  }
+
+  /** Reads back a value written with {@code toString()}. */
+  public Comparable<?> parse(String value) {
+    return parser.apply(value);
+  }
+}
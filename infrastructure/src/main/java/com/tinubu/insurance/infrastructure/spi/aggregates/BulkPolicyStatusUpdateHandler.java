@@ -0,0 +1,62 @@
+package com.tinubu.insurance.infrastructure.spi.aggregates;
+
+import com.tinubu.insurance.application.commands.BulkPolicyStatusUpdateCommand;
+import com.tinubu.insurance.application.commands.PolicyCommandResult;
+import com.tinubu.insurance.application.commands.PolicyStatusUpdateCommand;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.modelling.command.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link PolicyAggregate#handle(PolicyStatusUpdateCommand)} on every policy of a bulk, inside
+ * the unit of work of the bulk command. The events of all aggregates are staged in that unit of
+ * work and appended together when its transaction commits, as JDBC batches.
+ */
+@Component
+public class BulkPolicyStatusUpdateHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkPolicyStatusUpdateHandler.class);
+
+  private final Repository<PolicyAggregate> repository;
+
+  public BulkPolicyStatusUpdateHandler(Repository<PolicyAggregate> repository) {
+    this.repository = repository;
+  }
+
+  @CommandHandler
+  public List<PolicyCommandResult> handle(BulkPolicyStatusUpdateCommand command) {
+    long startTime = System.currentTimeMillis();
+    // Aggregate locks are held until the commit: taking them in id order avoids deadlocks
+    Map<PolicyId, PolicyCommandResult> results = new HashMap<>();
+    command.updates().stream()
+        .sorted(Comparator.comparing(update -> update.policyId().toUUID()))
+        .forEach(update -> results.put(update.policyId(), apply(update)));
+
+    List<PolicyCommandResult> ordered =
+        command.updates().stream().map(update -> results.get(update.policyId())).toList();
+    logger.info(
+        "Bulk status update of {} policies handled in {} ms ({} rejected)",
+        ordered.size(),
+        System.currentTimeMillis() - startTime,
+        ordered.stream().filter(result -> !result.succeeded()).count());
+    return ordered;
+  }
+
+  private PolicyCommandResult apply(PolicyStatusUpdateCommand update) {
+    try {
+      // Same identifier as the routing of a single PolicyStatusUpdateCommand
+      repository.load(update.policyId().toString()).execute(policy -> policy.handle(update));
+      return PolicyCommandResult.success(update.policyId());
+    } catch (RuntimeException e) {
+      logger.warn("Status update rejected for policy {}: {}", update.policyId(), e.getMessage());
+      return PolicyCommandResult.failure(update.policyId(), e.getMessage());
+    }
+  }
+}
@@ -2,6 +2,8 @@ package com.tinubu.insurance.infrastructure.spi.aggregates;
 
 import static org.axonframework.modelling.command.AggregateLifecycle.apply;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.tinubu.insurance.application.commands.CreatePolicyCommand;
 import com.tinubu.insurance.application.commands.PolicyStatusUpdateCommand;
 import com.tinubu.insurance.application.commands.UpdatePolicyCommand;
@@ -11,6 +13,7 @@ import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
 import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
 import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
 import com.tinubu.insurance.domain.policy.events.PolicyUpdatedEvent;
+import com.tinubu.insurance.infrastructure.spi.config.AxonConfig;
 import java.time.OffsetDateTime;
 import lombok.Getter;
 import org.axonframework.commandhandling.CommandHandler;
@@ -18,7 +21,12 @@ import org.axonframework.eventsourcing.EventSourcingHandler;
 import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.spring.stereotype.Aggregate;
 
-@Aggregate
+@Aggregate(snapshotTriggerDefinition = AxonConfig.POLICY_SNAPSHOT_TRIGGER)
+// Snapshots serialize the aggregate state from its fields only
+@JsonAutoDetect(
+    fieldVisibility = Visibility.ANY,
+    getterVisibility = Visibility.NONE,
+    isGetterVisibility = Visibility.NONE)
 public class PolicyAggregate {
 
   @AggregateIdentifier private PolicyId policyId;
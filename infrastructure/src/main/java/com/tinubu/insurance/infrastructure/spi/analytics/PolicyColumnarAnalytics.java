@@ -0,0 +1,361 @@
+package com.tinubu.insurance.infrastructure.spi.analytics;
+
+import com.tinubu.insurance.application.queries.CoverageCounts;
+import com.tinubu.insurance.application.queries.CoverageHistogram;
+import com.tinubu.insurance.application.queries.CoverageWindow;
+import com.tinubu.insurance.application.service.PolicyAnalytics;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyUpdatedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.config.ProcessingGroup;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coverage periods of every policy in primitive columns: start and end as epoch days in {@code
+ * int[]}, and the status ordinal packed in a few bits of a {@code long[]}. Queries scan the columns
+ * in tight loops, split in one slice of rows per core, without allocating per policy.
+ *
+ * <p>Fed by its own tracking processor with an in-memory token store, so every node replays the
+ * whole event stream at startup and then follows it, whatever segments of the projection it owns.
+ * Queries are answered once that replay has reached the head of the stream.
+ */
+@Component
+@ProcessingGroup(PolicyColumnarAnalytics.PROCESSING_GROUP)
+public class PolicyColumnarAnalytics implements PolicyAnalytics {
+
+  public static final String PROCESSING_GROUP = "policy-analytics";
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyColumnarAnalytics.class);
+
+  private static final PolicyStatus[] STATUSES = PolicyStatus.values();
+  private static final int STATUS_BITS =
+      Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(STATUSES.length - 1));
+  private static final int STATUSES_PER_WORD = Long.SIZE / STATUS_BITS;
+  private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+
+  private static final int INITIAL_CAPACITY = 1 << 12;
+  // Below this many rows per slice, splitting costs more than it saves
+  private static final int MIN_ROWS_PER_SLICE = 1 << 15;
+
+  // Written by the single processor thread, read by any number of queries
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<UUID, Integer> rowsByPolicy = new HashMap<>();
+  private int[] startDays = new int[INITIAL_CAPACITY];
+  private int[] endDays = new int[INITIAL_CAPACITY];
+  private long[] statusWords = new long[wordsFor(INITIAL_CAPACITY)];
+  private int size;
+
+  // Looked up lazily, the processor is built from this handler
+  private final ObjectProvider<EventProcessingConfiguration> eventProcessing;
+  // Once caught up, the processor follows the head
+  private volatile boolean caughtUp;
+  // Most slices a query is split in
+  private final int parallelism;
+
+  public PolicyColumnarAnalytics(
+      ObjectProvider<EventProcessingConfiguration> eventProcessing, MeterRegistry meterRegistry) {
+    this(eventProcessing, meterRegistry, Runtime.getRuntime().availableProcessors());
+  }
+
+  PolicyColumnarAnalytics(
+      ObjectProvider<EventProcessingConfiguration> eventProcessing,
+      MeterRegistry meterRegistry,
+      int parallelism) {
+    this.eventProcessing = eventProcessing;
+    this.parallelism = parallelism;
+    Gauge.builder("policy.analytics.rows", this, PolicyColumnarAnalytics::size)
+        .description("Policies held by the columnar analytics")
+        .register(meterRegistry);
+  }
+
+  @EventHandler
+  public void on(PolicyCreatedEvent event) {
+    write(event.policyId().toUUID(), event.status(), event.startDate(), event.endDate());
+  }
+
+  @EventHandler
+  public void on(PolicyUpdatedEvent event) {
+    write(event.policyId().toUUID(), event.status(), event.startDate(), event.endDate());
+  }
+
+  @EventHandler
+  public void on(PolicyStatusUpdatedEvent event) {
+    lock.writeLock().lock();
+    try {
+      Integer row = rowsByPolicy.get(event.policyId().toUUID());
+      if (row == null) {
+        logger.warn("Status update of a policy unknown to the analytics: {}", event.policyId());
+        return;
+      }
+      setStatus(row, event.newStatus());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean isReady() {
+    if (!caughtUp) {
+      caughtUp =
+          eventProcessing
+              .getObject()
+              .eventProcessor(PROCESSING_GROUP, StreamingEventProcessor.class)
+              .filter(StreamingEventProcessor::isRunning)
+              .map(StreamingEventProcessor::processingStatus)
+              .filter(segments -> !segments.isEmpty())
+              .map(segments -> segments.values().stream().allMatch(EventTrackerStatus::isCaughtUp))
+              .orElse(false);
+      if (caughtUp) {
+        logger.info("Policy analytics caught up with the event stream: {} policies", size());
+      }
+    }
+    return caughtUp;
+  }
+
+  @Override
+  public CoverageHistogram coverageHistogram(CoverageWindow window) {
+    int first = (int) window.from().toEpochDay();
+    int last = (int) window.to().toEpochDay();
+    long statusFilter = statusFilter(window.statuses());
+
+    int[] delta;
+    lock.readLock().lock();
+    try {
+      int[] starts = startDays;
+      int[] ends = endDays;
+      long[] statuses = statusWords;
+      int rows = size;
+      int slices = sliceCount(rows);
+      // Per slice, +1 on the first covered day and -1 after the last one
+      delta =
+          slices(slices)
+              .mapToObj(
+                  slice ->
+                      coverageDeltas(
+                          starts,
+                          ends,
+                          statuses,
+                          sliceStart(slice, slices, rows),
+                          sliceStart(slice + 1, slices, rows),
+                          first,
+                          last,
+                          statusFilter))
+              .reduce(PolicyColumnarAnalytics::add)
+              .orElseGet(() -> new int[last - first + 2]);
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    int[] inForce = new int[last - first + 1];
+    int running = 0;
+    for (int day = 0; day < inForce.length; day++) {
+      running += delta[day];
+      inForce[day] = running;
+    }
+    return new CoverageHistogram(window.from(), window.to(), inForce);
+  }
+
+  @Override
+  public CoverageCounts coverageCounts(CoverageWindow window) {
+    int first = (int) window.from().toEpochDay();
+    int last = (int) window.to().toEpochDay();
+    long statusFilter = statusFilter(window.statuses());
+
+    long[] counts;
+    lock.readLock().lock();
+    try {
+      int[] starts = startDays;
+      int[] ends = endDays;
+      long[] statuses = statusWords;
+      int rows = size;
+      int slices = sliceCount(rows);
+      counts =
+          slices(slices)
+              .mapToObj(
+                  slice ->
+                      coverageCounts(
+                          starts,
+                          ends,
+                          statuses,
+                          sliceStart(slice, slices, rows),
+                          sliceStart(slice + 1, slices, rows),
+                          first,
+                          last,
+                          statusFilter))
+              .reduce(PolicyColumnarAnalytics::add)
+              .orElseGet(() -> new long[4]);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return new CoverageCounts(counts[0], counts[1], counts[2], counts[3]);
+  }
+
+  private static int[] coverageDeltas(
+      int[] starts,
+      int[] ends,
+      long[] statuses,
+      int fromRow,
+      int toRow,
+      int first,
+      int last,
+      long statusFilter) {
+    int[] delta = new int[last - first + 2];
+    for (int row = fromRow; row < toRow; row++) {
+      int start = Math.max(starts[row], first);
+      int end = Math.min(ends[row], last);
+      if (start <= end && matches(statuses, row, statusFilter)) {
+        delta[start - first]++;
+        delta[end - first + 1]--;
+      }
+    }
+    return delta;
+  }
+
+  private static long[] coverageCounts(
+      int[] starts,
+      int[] ends,
+      long[] statuses,
+      int fromRow,
+      int toRow,
+      int first,
+      int last,
+      long statusFilter) {
+    long overlapping = 0;
+    long covering = 0;
+    long starting = 0;
+    long ending = 0;
+    for (int row = fromRow; row < toRow; row++) {
+      if (!matches(statuses, row, statusFilter)) {
+        continue;
+      }
+      int start = starts[row];
+      int end = ends[row];
+      if (start <= last && end >= first) {
+        overlapping++;
+        if (start <= first && end >= last) {
+          covering++;
+        }
+        if (start >= first) {
+          starting++;
+        }
+        if (end <= last) {
+          ending++;
+        }
+      }
+    }
+    return new long[] {overlapping, covering, starting, ending};
+  }
+
+  private static boolean matches(long[] statuses, int row, long statusFilter) {
+    int shift = (row % STATUSES_PER_WORD) * STATUS_BITS;
+    int ordinal = (int) ((statuses[row / STATUSES_PER_WORD] >>> shift) & STATUS_MASK);
+    return ((statusFilter >>> ordinal) & 1L) != 0;
+  }
+
+  // One bit per status ordinal; no status selected means every status
+  private static long statusFilter(Set<PolicyStatus> statuses) {
+    if (statuses.isEmpty()) {
+      return -1L;
+    }
+    long filter = 0;
+    for (PolicyStatus status : statuses) {
+      filter |= 1L << status.ordinal();
+    }
+    return filter;
+  }
+
+  private int sliceCount(int rows) {
+    return Math.max(1, Math.min(parallelism, rows / MIN_ROWS_PER_SLICE));
+  }
+
+  // Slices run on the common fork-join pool
+  private static IntStream slices(int slices) {
+    IntStream stream = IntStream.range(0, slices);
+    return slices > 1 ? stream.parallel() : stream;
+  }
+
+  private static int sliceStart(int slice, int slices, int rows) {
+    return (int) ((long) rows * slice / slices);
+  }
+
+  private static int[] add(int[] left, int[] right) {
+    for (int i = 0; i < left.length; i++) {
+      left[i] += right[i];
+    }
+    return left;
+  }
+
+  private static long[] add(long[] left, long[] right) {
+    for (int i = 0; i < left.length; i++) {
+      left[i] += right[i];
+    }
+    return left;
+  }
+
+  private void write(UUID policyId, PolicyStatus status, LocalDate startDate, LocalDate endDate) {
+    lock.writeLock().lock();
+    try {
+      Integer row = rowsByPolicy.get(policyId);
+      if (row == null) {
+        row = size;
+        ensureCapacity(size + 1);
+        rowsByPolicy.put(policyId, row);
+        size++;
+      }
+      startDays[row] = (int) startDate.toEpochDay();
+      endDays[row] = (int) endDate.toEpochDay();
+      setStatus(row, status);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void setStatus(int row, PolicyStatus status) {
+    int word = row / STATUSES_PER_WORD;
+    int shift = (row % STATUSES_PER_WORD) * STATUS_BITS;
+    statusWords[word] =
+        (statusWords[word] & ~(STATUS_MASK << shift)) | ((long) status.ordinal() << shift);
+  }
+
+  private void ensureCapacity(int rows) {
+    if (rows <= startDays.length) {
+      return;
+    }
+    int capacity = startDays.length * 2;
+    startDays = Arrays.copyOf(startDays, capacity);
+    endDays = Arrays.copyOf(endDays, capacity);
+    statusWords = Arrays.copyOf(statusWords, wordsFor(capacity));
+  }
+
+  private int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static int wordsFor(int rows) {
+    return (rows + STATUSES_PER_WORD - 1) / STATUSES_PER_WORD;
+  }
+}
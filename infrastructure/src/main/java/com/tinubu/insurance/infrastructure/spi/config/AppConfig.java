@@ -1,6 +1,51 @@
 package com.tinubu.insurance.infrastructure.spi.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
-public class AppConfig {}
+public class AppConfig {
+
+  /**
+   * Runs the interactive commands of the API. One thread per command admitted by {@code
+   * CommandAdmissionControl}, so an admitted command never waits for a thread.
+   */
+  @Bean("commandTaskExecutor")
+  public AsyncTaskExecutor commandTaskExecutor(
+      @Value("${app.commands.max-in-flight:64}") int threads,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    return boundedExecutor("command-", threads, virtualThreads);
+  }
+
+  /**
+   * Runs the commands of batches and of the status update job, apart from the interactive ones. As
+   * many threads as commands a batch keeps in flight, so the window is not capped by the pool.
+   */
+  @Bean("batchCommandTaskExecutor")
+  public AsyncTaskExecutor batchCommandTaskExecutor(
+      @Value("${app.commands.batch.max-in-flight:32}") int threads,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    return boundedExecutor("batch-command-", threads, virtualThreads);
+  }
+
+  // At most `threads` tasks run at a time, on virtual threads when enabled. Initialized and shut
+  // down by the context
+  static AsyncTaskExecutor boundedExecutor(String prefix, int threads, boolean virtualThreads) {
+    if (virtualThreads) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(threads);
+      return executor;
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(prefix);
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+}
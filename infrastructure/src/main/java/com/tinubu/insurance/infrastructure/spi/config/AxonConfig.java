@@ -0,0 +1,86 @@
+package com.tinubu.insurance.infrastructure.spi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.tinubu.insurance.infrastructure.spi.analytics.PolicyColumnarAnalytics;
+import org.axonframework.config.EventProcessingConfigurer;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.async.SequencingPolicy;
+import org.axonframework.eventhandling.tokenstore.inmemory.InMemoryTokenStore;
+import org.axonframework.eventsourcing.EventCountSnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.serialization.RevisionResolver;
+import org.axonframework.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class AxonConfig {
+
+  public static final String POLICY_SNAPSHOT_TRIGGER = "policySnapshotTriggerDefinition";
+
+  // Referenced by name from axon.eventhandling.processors.policy-projection.sequencing-policy
+  public static final String POLICY_SEQUENCING_POLICY = "policySequencingPolicy";
+
+  /**
+   * Takes a snapshot of a policy aggregate once the events loaded or applied since the last
+   * snapshot reach the threshold, so loading replays at most that many events. Snapshots are stored
+   * next to the events, in the JPA event store.
+   */
+  @Bean(POLICY_SNAPSHOT_TRIGGER)
+  public SnapshotTriggerDefinition policySnapshotTriggerDefinition(
+      Snapshotter snapshotter, @Value("${app.axon.snapshot.threshold:50}") int threshold) {
+    return new EventCountSnapshotTriggerDefinition(snapshotter, threshold);
+  }
+
+  @Bean(POLICY_SEQUENCING_POLICY)
+  public SequencingPolicy<EventMessage<?>> policySequencingPolicy() {
+    return new PolicySequencingPolicy();
+  }
+
+  /**
+   * The analytics keep their state in memory, so their position in the event stream must not
+   * outlive the node: each node replays the stream from the start.
+   */
+  @Autowired
+  public void configureAnalyticsProcessor(EventProcessingConfigurer configurer) {
+    configurer.registerTokenStore(
+        PolicyColumnarAnalytics.PROCESSING_GROUP, configuration -> new InMemoryTokenStore());
+  }
+
+  /**
+   * General serializer, used for snapshots and tokens, in place of Axon's Jackson one. Writes JSON
+   * or Smile depending on {@code app.axon.serializer.format}, reads both. Both formats use the same
+   * Jackson configuration as the web layer.
+   */
+  @Bean
+  @Primary
+  public Serializer serializer(
+      ObjectMapper objectMapper,
+      Jackson2ObjectMapperBuilder objectMapperBuilder,
+      RevisionResolver revisionResolver,
+      @Value("${app.axon.serializer.format:json}") String format) {
+    return new FormatSniffingSerializer(
+        objectMapper,
+        // Numeric dates, several times smaller than ISO strings; JSON keeps the strings
+        objectMapperBuilder
+            .factory(new SmileFactory())
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build(),
+        FormatSniffingSerializer.Format.fromString(format),
+        revisionResolver);
+  }
+
+  @Bean
+  @Qualifier("eventSerializer")
+  public Serializer eventSerializer(Serializer serializer) {
+    return serializer;
+  }
+}
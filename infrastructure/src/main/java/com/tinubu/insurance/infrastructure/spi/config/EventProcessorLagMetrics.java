@@ -0,0 +1,72 @@
+package com.tinubu.insurance.infrastructure.spi.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.OptionalLong;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes, per streaming event processor, how many events its slowest segment is behind the head
+ * of the event store. Complements Axon's time-based {@code eventProcessor.latency} gauge.
+ */
+@Component
+public class EventProcessorLagMetrics {
+
+  private final EventProcessingConfiguration eventProcessing;
+  private final EventStore eventStore;
+  private final MeterRegistry meterRegistry;
+
+  public EventProcessorLagMetrics(
+      EventProcessingConfiguration eventProcessing,
+      EventStore eventStore,
+      MeterRegistry meterRegistry) {
+    this.eventProcessing = eventProcessing;
+    this.eventStore = eventStore;
+    this.meterRegistry = meterRegistry;
+  }
+
+  // Processors are only all registered once the application is started
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerGauges() {
+    eventProcessing
+        .eventProcessors()
+        .forEach(
+            (name, processor) -> {
+              if (processor instanceof StreamingEventProcessor streaming) {
+                Gauge.builder("axon.processor.lag.events", streaming, this::lag)
+                    .description("Events between the event store head and the slowest segment")
+                    .tag("processor", name)
+                    .register(meterRegistry);
+              }
+            });
+  }
+
+  // Evaluated on scrape; NaN while the processor has no claimed segment
+  private double lag(StreamingEventProcessor processor) {
+    Map<Integer, EventTrackerStatus> segments = processor.processingStatus();
+    if (segments.isEmpty()) {
+      return Double.NaN;
+    }
+    long slowest = Long.MAX_VALUE;
+    for (EventTrackerStatus status : segments.values()) {
+      slowest = Math.min(slowest, status.getCurrentPosition().orElse(-1L));
+    }
+    return Math.max(0, position(eventStore.createHeadToken()) - slowest);
+  }
+
+  private static long position(TrackingToken token) {
+    if (token == null) {
+      return -1L;
+    }
+    OptionalLong position = token.position();
+    return position.orElse(-1L);
+  }
+}
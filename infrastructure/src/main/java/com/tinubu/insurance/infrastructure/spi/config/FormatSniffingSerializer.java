@@ -0,0 +1,138 @@
+package com.tinubu.insurance.infrastructure.spi.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.RevisionResolver;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+
+/**
+ * Jackson serializer writing either JSON or Smile (binary JSON: field names written once per
+ * document, compact numbers) and reading both, whatever the write format.
+ *
+ * <p>Stored data is told apart by the Smile header ({@code :)\n}), which no JSON document starts
+ * with, so events and snapshots written before a format switch stay readable. Upcasters keep
+ * working: the converter turns either format into a {@link JsonNode}.
+ */
+public class FormatSniffingSerializer implements Serializer {
+
+  public enum Format {
+    JSON,
+    SMILE;
+
+    public static Format fromString(String value) {
+      return Stream.of(values())
+          .filter(format -> format.name().equalsIgnoreCase(value))
+          .findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("Invalid serializer format: " + value));
+    }
+  }
+
+  private final JacksonSerializer json;
+  private final JacksonSerializer smile;
+  private final JacksonSerializer writer;
+  private final SniffingConverter converter;
+
+  public FormatSniffingSerializer(
+      ObjectMapper jsonMapper,
+      ObjectMapper smileMapper,
+      Format writeFormat,
+      RevisionResolver revisionResolver) {
+    this.json =
+        JacksonSerializer.builder()
+            .objectMapper(jsonMapper)
+            .revisionResolver(revisionResolver)
+            .build();
+    this.smile =
+        JacksonSerializer.builder()
+            .objectMapper(smileMapper)
+            .revisionResolver(revisionResolver)
+            .build();
+    this.writer = writeFormat == Format.SMILE ? smile : json;
+    this.converter = new SniffingConverter(json.getConverter(), writer.getObjectMapper());
+  }
+
+  @Override
+  public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+    return writer.serialize(object, expectedRepresentation);
+  }
+
+  @Override
+  public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+    return writer.canSerializeTo(expectedRepresentation);
+  }
+
+  @Override
+  public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+    if (serializedObject.getData() instanceof byte[] bytes && isSmile(bytes)) {
+      return smile.deserialize(serializedObject);
+    }
+    // JSON bytes, and intermediate JsonNode representations of both formats
+    return json.deserialize(serializedObject);
+  }
+
+  @Override
+  public Class classForType(SerializedType type) {
+    return json.classForType(type);
+  }
+
+  @Override
+  public SerializedType typeForClass(Class type) {
+    return json.typeForClass(type);
+  }
+
+  @Override
+  public Converter getConverter() {
+    return converter;
+  }
+
+  private static boolean isSmile(byte[] bytes) {
+    return bytes.length >= 3
+        && bytes[0] == SmileConstants.HEADER_BYTE_1
+        && bytes[1] == SmileConstants.HEADER_BYTE_2
+        && bytes[2] == SmileConstants.HEADER_BYTE_3;
+  }
+
+  /** Reads bytes in either format and writes them in the configured one. */
+  private final class SniffingConverter implements Converter {
+
+    private final Converter delegate;
+    private final ObjectMapper writeMapper;
+
+    private SniffingConverter(Converter delegate, ObjectMapper writeMapper) {
+      this.delegate = delegate;
+      this.writeMapper = writeMapper;
+    }
+
+    @Override
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+      return delegate.canConvert(sourceType, targetType);
+    }
+
+    @Override
+    public <T> T convert(Object original, Class<?> sourceType, Class<T> targetType) {
+      try {
+        if (original instanceof byte[] bytes
+            && JsonNode.class.isAssignableFrom(targetType)
+            && isSmile(bytes)) {
+          JsonNode node = smile.getObjectMapper().readTree(bytes);
+          return delegate.convert(node, JsonNode.class, targetType);
+        }
+        if (original instanceof JsonNode node && byte[].class.equals(targetType)) {
+          return targetType.cast(writeMapper.writeValueAsBytes(node));
+        }
+      } catch (IOException e) {
+        throw new SerializationException(
+            "Unable to convert " + sourceType + " to " + targetType, e);
+      }
+      return delegate.convert(original, sourceType, targetType);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.tinubu.insurance.infrastructure.spi.config;
+
+import com.tinubu.insurance.domain.policy.events.PolicyEvent;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.async.SequencingPolicy;
+import org.axonframework.eventhandling.async.SequentialPerAggregatePolicy;
+
+/**
+ * Routes every event of a policy to the same segment, so a policy's events are handled in order
+ * while different policies are handled in parallel. Events not about a policy fall back to their
+ * aggregate.
+ */
+public class PolicySequencingPolicy implements SequencingPolicy<EventMessage<?>> {
+
+  @Override
+  public Object getSequenceIdentifierFor(EventMessage<?> event) {
+    if (event.getPayload() instanceof PolicyEvent policyEvent) {
+      return policyEvent.policyId().toUUID();
+    }
+    return SequentialPerAggregatePolicy.instance().getSequenceIdentifierFor(event);
+  }
+}
@@ -10,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+// Schema and indexes are managed by Liquibase (db/migrations)
 @Table(name = "policy_projection")
 @Data
 @NoArgsConstructor
@@ -39,18 +40,11 @@ public class PolicyEntity {
   @Column(name = "updated_at", nullable = false)
   private OffsetDateTime updatedAt;
 
-  // Additional indexes for common queries
-  @Column(name = "is_active")
-  private Boolean isActive;
+  // Null once the status can no longer change
+  @Column(name = "next_status_transition_date")
+  private LocalDate nextStatusTransitionDate;
 
-  @Column(name = "is_expired")
-  private Boolean isExpired;
-
-  @PrePersist
-  @PreUpdate
-  private void updateDerivedFields() {
-    LocalDate today = LocalDate.now();
-    this.isActive = (status == PolicyStatus.ACTIVE);
-    this.isExpired = today.isAfter(endDate);
-  }
+  // Set by the database on every projection write
+  @Column(name = "projected_at", insertable = false, updatable = false)
+  private OffsetDateTime projectedAt;
 }
@@ -2,8 +2,8 @@ package com.tinubu.insurance.infrastructure.spi.mappers;
 
 import com.tinubu.insurance.domain.policy.entity.Policy;
 import com.tinubu.insurance.domain.policy.entity.PolicyId;
-import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
 import com.tinubu.insurance.infrastructure.spi.entities.PolicyEntity;
+import java.time.LocalDate;
 
 public class Mapper {
 
@@ -29,7 +29,7 @@ public class Mapper {
         policy.endDate(),
         policy.createdAt(),
         policy.updatedAt(),
-        PolicyStatus.ACTIVE.equals(policy.status()),
-        false);
+        policy.nextStatusTransitionDate(LocalDate.now()),
+        null);
   }
 }
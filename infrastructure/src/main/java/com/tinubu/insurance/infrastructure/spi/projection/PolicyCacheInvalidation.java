@@ -0,0 +1,205 @@
+package com.tinubu.insurance.infrastructure.spi.projection;
+
+import com.tinubu.insurance.application.service.PolicyQueryService;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the policy caches of every node. The node making the change drops its entries once
+ * the change is committed; the other nodes are told through a PostgreSQL NOTIFY sent in the same
+ * transaction, so they only hear of committed changes.
+ *
+ * <p>Each node listens on one connection of the pool. Notifications sent while that connection is
+ * down are lost, so the caches are cleared whenever it is (re)established.
+ */
+@Component
+public class PolicyCacheInvalidation implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyCacheInvalidation.class);
+
+  private static final String CHANNEL = "policy_cache_invalidation";
+  private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+  private static final String PENDING_RESOURCE =
+      PolicyCacheInvalidation.class.getName() + ".pending";
+
+  // Payload lines are "<cache>" to clear it, or "<cache>:<policy id>" to evict one policy
+  private static final char KEY_SEPARATOR = ':';
+  private static final String LINE_SEPARATOR = "\n";
+  // PostgreSQL rejects payloads of 8000 bytes or more
+  private static final int MAX_PAYLOAD_LENGTH = 7_000;
+
+  // Bounds how long stopping the listener takes, notifications are read as soon as they arrive
+  private static final int LISTEN_TIMEOUT_MILLIS = 1_000;
+
+  private static final List<String> CACHE_NAMES =
+      List.of(PolicyQueryService.POLICY_BY_ID_CACHE, PolicyQueryService.EXPIRING_POLICIES_CACHE);
+
+  private final CacheManager cacheManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSource dataSource;
+
+  private volatile boolean running;
+  private Thread listener;
+
+  public PolicyCacheInvalidation(
+      CacheManager cacheManager, JdbcTemplate jdbcTemplate, DataSource dataSource) {
+    this.cacheManager = cacheManager;
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSource = dataSource;
+  }
+
+  public void evict(String cacheName, PolicyId policyId) {
+    invalidate(cacheName + KEY_SEPARATOR + policyId.toUUID());
+  }
+
+  public void clear(String cacheName) {
+    invalidate(cacheName);
+  }
+
+  /**
+   * Inside a unit of work the invalidations are notified in one go just before the commit, and
+   * applied locally right after it. Evicting before the commit would let a concurrent read cache
+   * the previous row again.
+   */
+  private void invalidate(String line) {
+    if (!CurrentUnitOfWork.isStarted()) {
+      notifyNodes(List.of(line));
+      apply(line);
+      return;
+    }
+    UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+    if (unitOfWork.phase().isBefore(UnitOfWork.Phase.PREPARE_COMMIT)) {
+      pending(unitOfWork).add(line);
+      return;
+    }
+    // Requested while committing, e.g. by a projection flush
+    notifyNodes(List.of(line));
+    unitOfWork.afterCommit(uow -> apply(line));
+  }
+
+  private Set<String> pending(UnitOfWork<?> unitOfWork) {
+    return unitOfWork.getOrComputeResource(
+        PENDING_RESOURCE,
+        key -> {
+          Set<String> lines = new LinkedHashSet<>();
+          unitOfWork.onPrepareCommit(uow -> notifyNodes(lines));
+          unitOfWork.afterCommit(uow -> lines.forEach(this::apply));
+          return lines;
+        });
+  }
+
+  private void notifyNodes(Iterable<String> lines) {
+    StringBuilder payload = new StringBuilder();
+    for (String line : lines) {
+      if (!payload.isEmpty() && payload.length() + line.length() >= MAX_PAYLOAD_LENGTH) {
+        notifyNodes(payload.toString());
+        payload.setLength(0);
+      }
+      if (!payload.isEmpty()) {
+        payload.append(LINE_SEPARATOR);
+      }
+      payload.append(line);
+    }
+    if (!payload.isEmpty()) {
+      notifyNodes(payload.toString());
+    }
+  }
+
+  private void notifyNodes(String payload) {
+    jdbcTemplate.query(NOTIFY_SQL, (RowCallbackHandler) rs -> {}, CHANNEL, payload);
+  }
+
+  private void apply(String line) {
+    int separator = line.indexOf(KEY_SEPARATOR);
+    Cache cache = cacheManager.getCache(separator < 0 ? line : line.substring(0, separator));
+    if (cache == null) {
+      return;
+    }
+    if (separator < 0) {
+      cache.clear();
+    } else {
+      cache.evict(PolicyId.fromUUID(UUID.fromString(line.substring(separator + 1))));
+    }
+  }
+
+  private void clearAll() {
+    CACHE_NAMES.forEach(this::apply);
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    listener = Thread.ofPlatform().name("policy-cache-invalidation").daemon().start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    try {
+      listener.join(2L * LISTEN_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = dataSource.getConnection()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        clearAll();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(LISTEN_TIMEOUT_MILLIS);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            for (String line : notification.getParameter().split(LINE_SEPARATOR)) {
+              apply(line);
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (running) {
+          logger.warn("Lost the policy cache invalidation channel, reconnecting", e);
+          pause();
+        }
+      }
+    }
+  }
+
+  private static void pause() {
+    try {
+      Thread.sleep(LISTEN_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -3,6 +3,9 @@ package com.tinubu.insurance.infrastructure.spi.projection;
 import com.tinubu.insurance.application.queries.FindAllPoliciesQuery;
 import com.tinubu.insurance.application.queries.FindPoliciesNeedingStatusUpdateQuery;
 import com.tinubu.insurance.application.queries.FindPolicyByIdQuery;
+import com.tinubu.insurance.application.queries.PolicyCursor;
+import com.tinubu.insurance.application.queries.PolicyPage;
+import com.tinubu.insurance.application.service.PolicyQueryService;
 import com.tinubu.insurance.domain.policy.entity.Policy;
 import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
 import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
@@ -13,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.axonframework.config.ProcessingGroup;
 import org.axonframework.eventhandling.EventHandler;
 import org.axonframework.queryhandling.QueryHandler;
 import org.slf4j.Logger;
@@ -20,12 +24,17 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 @Component
+@ProcessingGroup(PolicyProjection.PROCESSING_GROUP)
 @RequiredArgsConstructor
 public class PolicyProjection {
 
+  public static final String PROCESSING_GROUP = "policy-projection";
+
   private static final Logger logger = LoggerFactory.getLogger(PolicyProjection.class);
 
   private final PolicyRepository<Policy, UUID> repository;
+  private final PolicyCacheInvalidation cacheInvalidation;
+  private final PolicyProjectionConsistency consistency;
 
   @EventHandler
   public void on(PolicyCreatedEvent event) {
@@ -41,6 +50,7 @@ public class PolicyProjection {
               event.updatedAt());
 
       repository.save(entity);
+      consistency.refreshAfterBatch();
       logger.info("Policy projection created: {}", event.policyId());
 
     } catch (Exception e) {
@@ -52,22 +62,17 @@ public class PolicyProjection {
   @EventHandler
   public void on(PolicyUpdatedEvent event) {
     try {
-      Optional<Policy> existingEntity = repository.findByPolicyId(event.policyId().toUUID());
-
-      if (existingEntity.isPresent()) {
-        Policy entity = existingEntity.get();
-
-        // Update all fields except createdAt
-        Policy updatedPolicy =
-            entity.update(event.name(), event.status(), event.startDate(), event.endDate());
-
-        repository.save(updatedPolicy);
-        logger.debug("Policy projection updated: {}", event.policyId());
-
-      } else {
-        logger.warn("Policy not found for update event: {}", event.policyId());
-        // Could create new entity here if needed, or throw exception
-      }
+      // Update all fields except createdAt, straight from the event
+      repository.updateDetails(
+          event.policyId().toUUID(),
+          event.name(),
+          event.status(),
+          event.startDate(),
+          event.endDate(),
+          event.updatedAt());
+      cacheInvalidation.evict(PolicyQueryService.POLICY_BY_ID_CACHE, event.policyId());
+      consistency.refreshAfterBatch();
+      logger.debug("Policy projection updated: {}", event.policyId());
 
     } catch (Exception e) {
       logger.error("Failed to handle PolicyUpdatedEvent for policy: {}", event.policyId(), e);
@@ -78,22 +83,14 @@ public class PolicyProjection {
   @EventHandler
   public void on(PolicyStatusUpdatedEvent event) {
     try {
-      Optional<Policy> existingEntity = repository.findByPolicyId(event.policyId().toUUID());
-
-      if (existingEntity.isPresent()) {
-        Policy entity = existingEntity.get();
-        Policy updatedPolicy = entity.updateStatus(event.newStatus());
-
-        repository.save(updatedPolicy);
-        logger.info(
-            "Policy status updated in projection: {} -> {} for policy: {}",
-            event.oldStatus(),
-            event.newStatus(),
-            event.policyId());
-
-      } else {
-        logger.warn("Policy not found for status update event: {}", event.policyId());
-      }
+      repository.updateStatus(event.policyId().toUUID(), event.newStatus(), event.updatedAt());
+      cacheInvalidation.evict(PolicyQueryService.POLICY_BY_ID_CACHE, event.policyId());
+      consistency.refreshAfterBatch();
+      logger.info(
+          "Policy status updated in projection: {} -> {} for policy: {}",
+          event.oldStatus(),
+          event.newStatus(),
+          event.policyId());
 
     } catch (Exception e) {
       logger.error("Failed to handle PolicyStatusUpdatedEvent for policy: {}", event.policyId(), e);
@@ -115,9 +112,15 @@ public class PolicyProjection {
   }
 
   @QueryHandler
-  public List<Policy> handle(FindAllPoliciesQuery query) {
+  public PolicyPage handle(FindAllPoliciesQuery query) {
     try {
-      return repository.findAll().stream().toList();
+      PolicyCursor cursor = query.decodedCursor();
+      List<Policy> fetched =
+          cursor == null
+              ? repository.findFirstPage(query.limit() + 1)
+              : repository.findPageAfter(
+                  cursor.createdAt(), cursor.policyId().toUUID(), query.limit() + 1);
+      return PolicyPage.of(fetched, query.limit());
 
     } catch (Exception e) {
       logger.error("Failed to handle FindAllPoliciesQuery", e);
@@ -128,7 +131,8 @@ public class PolicyProjection {
   @QueryHandler
   public List<Policy> handle(FindPoliciesNeedingStatusUpdateQuery query) {
     try {
-      return repository.findPoliciesNeedingStatusUpdate().stream().toList();
+      return repository.findPoliciesNeedingStatusUpdate(
+          query.dueOn(), query.afterPolicyId(), query.upToPolicyId(), query.limit());
 
     } catch (Exception e) {
       logger.error("Failed to handle FindAllPoliciesQuery", e);
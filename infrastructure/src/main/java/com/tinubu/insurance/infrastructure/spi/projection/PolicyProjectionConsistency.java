@@ -0,0 +1,179 @@
+package com.tinubu.insurance.infrastructure.spi.projection;
+
+import com.tinubu.insurance.application.exception.ConsistencyTimeoutException;
+import com.tinubu.insurance.application.queries.ConsistencyToken;
+import com.tinubu.insurance.application.service.ProjectionConsistency;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.axonframework.eventhandling.GapAwareTrackingToken;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventhandling.WrappedToken;
+import org.axonframework.eventhandling.tokenstore.jpa.TokenEntry;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the position of the policy projection from its tokens in the token store, so that every
+ * segment is seen whichever node processes it.
+ *
+ * <p>Waiting reads are parked as futures. They are checked right after each local projection batch
+ * and, while any is parked, on a short fixed delay for segments processed elsewhere. One token
+ * store read serves every parked read; nothing is read while none is waiting.
+ */
+@Component
+public class PolicyProjectionConsistency implements ProjectionConsistency {
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyProjectionConsistency.class);
+
+  private static final String BATCH_HOOK_RESOURCE =
+      PolicyProjectionConsistency.class.getName() + ".batchHook";
+
+  private final EventStore eventStore;
+  private final EntityManager entityManager;
+  private final Serializer serializer;
+  private final Executor taskExecutor;
+  private final long maxWaitMillis;
+  private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+  public PolicyProjectionConsistency(
+      EventStore eventStore,
+      EntityManager entityManager,
+      @Qualifier("serializer") Serializer serializer,
+      @Qualifier("applicationTaskExecutor") Executor taskExecutor,
+      @Value("${app.consistency.max-wait-ms:5000}") long maxWaitMillis,
+      MeterRegistry meterRegistry) {
+    this.eventStore = eventStore;
+    this.entityManager = entityManager;
+    this.serializer = serializer;
+    this.taskExecutor = taskExecutor;
+    this.maxWaitMillis = maxWaitMillis;
+    Gauge.builder("policy.consistency.waiting.reads", waiters, Set::size)
+        .description("Reads waiting for the projection to catch up with their token")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public long headPosition() {
+    TrackingToken head = eventStore.createHeadToken();
+    return head == null ? -1L : head.position().orElse(-1L);
+  }
+
+  // Sound across nodes only because the global index is allocated one value at a time (see
+  // META-INF/orm.xml): an event stored after headBefore was read then gets a higher index
+  @Override
+  public ConsistencyToken tokenSince(long headBefore) {
+    return new ConsistencyToken(headBefore, headPosition());
+  }
+
+  @Override
+  public CompletableFuture<Void> awaitProcessed(ConsistencyToken token) {
+    if (token.upTo() <= token.after() || isProcessed(token, projectionTokens())) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Waiter waiter = new Waiter(token, new CompletableFuture<>());
+    waiters.add(waiter);
+    waiter.future.whenComplete((result, ex) -> waiters.remove(waiter));
+    CompletableFuture.delayedExecutor(maxWaitMillis, TimeUnit.MILLISECONDS, taskExecutor)
+        .execute(
+            () ->
+                waiter.future.completeExceptionally(
+                    new ConsistencyTimeoutException(
+                        "Policy projection did not reach position %d within %d ms, retry later"
+                            .formatted(token.upTo(), maxWaitMillis))));
+    // The batch covering the token may have committed between the check and the registration
+    refresh();
+    return waiter.future;
+  }
+
+  /**
+   * Re-checks the parked reads once the current projection batch is over. Called from the
+   * projection event handlers.
+   */
+  void refreshAfterBatch() {
+    if (!CurrentUnitOfWork.isStarted()) {
+      refresh();
+      return;
+    }
+    UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+    unitOfWork.getOrComputeResource(
+        BATCH_HOOK_RESOURCE,
+        key -> {
+          // Cleanup runs after the token is committed and the cache evictions of the batch
+          unitOfWork.onCleanup(uow -> refresh());
+          return Boolean.TRUE;
+        });
+  }
+
+  @Scheduled(fixedDelayString = "${app.consistency.poll-interval-ms:200}")
+  public void refresh() {
+    if (waiters.isEmpty()) {
+      return;
+    }
+    List<TrackingToken> tokens;
+    try {
+      tokens = projectionTokens();
+    } catch (RuntimeException e) {
+      logger.warn("Failed to read the policy projection tokens", e);
+      return;
+    }
+    for (Waiter waiter : waiters) {
+      if (isProcessed(waiter.token, tokens)) {
+        // Release the reads off the projection and scheduler threads
+        taskExecutor.execute(() -> waiter.future.complete(null));
+      }
+    }
+  }
+
+  private List<TrackingToken> projectionTokens() {
+    return entityManager
+        .createQuery(
+            "SELECT t FROM TokenEntry t WHERE t.processorName = :processorName", TokenEntry.class)
+        .setParameter("processorName", PolicyProjection.PROCESSING_GROUP)
+        .getResultList()
+        .stream()
+        .map(entry -> entry.getToken(serializer))
+        .toList();
+  }
+
+  // Every segment must have gone past the range without leaving a gap in it
+  private static boolean isProcessed(ConsistencyToken token, List<TrackingToken> segments) {
+    if (segments.isEmpty()) {
+      return false;
+    }
+    for (TrackingToken segment : segments) {
+      if (!covers(segment, token)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean covers(TrackingToken segment, ConsistencyToken token) {
+    if (segment == null) {
+      return false;
+    }
+    TrackingToken lowerBound = WrappedToken.unwrapLowerBound(segment);
+    if (lowerBound instanceof GapAwareTrackingToken gapAware) {
+      return gapAware.getIndex() >= token.upTo()
+          && gapAware.getGaps().subSet(token.after() + 1, token.upTo() + 1).isEmpty();
+    }
+    return lowerBound != null && lowerBound.position().orElse(-1L) >= token.upTo();
+  }
+
+  private record Waiter(ConsistencyToken token, CompletableFuture<Void> future) {}
+}
@@ -0,0 +1,426 @@
+package com.tinubu.insurance.infrastructure.spi.projection;
+
+import com.tinubu.insurance.application.queries.ProjectionRebuildStatus;
+import com.tinubu.insurance.application.queries.ProjectionRebuildStatus.Phase;
+import com.tinubu.insurance.application.service.PolicyQueryService;
+import com.tinubu.insurance.application.service.ProjectionRebuild;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyUpdatedEvent;
+import com.tinubu.insurance.domain.policy.port.PolicyStatisticsRepository;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds {@code policy_projection} without going through the event handlers.
+ *
+ * <ol>
+ *   <li>Streams the event store once and folds each policy's events into its final state, in
+ *       memory.
+ *   <li>Writes the states into {@code policy_projection_rebuild} with multi-row inserts, then
+ *       creates the indexes of the live table on it.
+ *   <li>Applies the events stored meanwhile, then swaps the tables by renaming them in one
+ *       transaction. The last catch-up and the swap run under an EXCLUSIVE lock on the live table:
+ *       reads go on, projection writes wait and then land in the new table.
+ * </ol>
+ *
+ * The processor tokens are left as they are: the new table holds every event the processor had
+ * processed at the time of the swap.
+ *
+ * <p>One rebuild runs at a time across the nodes: it holds a PostgreSQL advisory lock, on a
+ * connection of its own, from start to end.
+ */
+@Component
+public class PolicyProjectionRebuilder implements ProjectionRebuild {
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyProjectionRebuilder.class);
+
+  private static final String LIVE_TABLE = "policy_projection";
+  private static final String REBUILD_TABLE = "policy_projection_rebuild";
+  private static final String OLD_TABLE = "policy_projection_old";
+  private static final String REBUILD_SUFFIX = "_rebuild";
+  private static final String OLD_SUFFIX = "_old";
+
+  private static final String COLUMNS =
+      "policy_id, name, status, start_date, end_date, created_at, updated_at,"
+          + " next_status_transition_date";
+  private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String UPSERT_CLAUSE =
+      """
+       ON CONFLICT (policy_id) DO UPDATE SET
+        name = EXCLUDED.name,
+        status = EXCLUDED.status,
+        start_date = EXCLUDED.start_date,
+        end_date = EXCLUDED.end_date,
+        updated_at = EXCLUDED.updated_at,
+        next_status_transition_date = EXCLUDED.next_status_transition_date,
+        projected_at = now()""";
+
+  private static final String INDEXES_SQL =
+      """
+      SELECT indexname, indexdef FROM pg_indexes
+      WHERE schemaname = current_schema() AND tablename = ?
+      """;
+  private static final String PRIMARY_KEY_SQL =
+      """
+      SELECT conname FROM pg_constraint
+      WHERE conrelid = CAST(? AS regclass) AND contype = 'p'
+      """;
+
+  private static final String TRY_LOCK_SQL =
+      "SELECT pg_try_advisory_lock(hashtext('policy_projection_rebuild'))";
+  private static final String UNLOCK_SQL =
+      "SELECT pg_advisory_unlock(hashtext('policy_projection_rebuild'))";
+
+  // Catch-up rounds before the swap, the last one under the lock has to be short
+  private static final int MAX_CATCH_UP_ROUNDS = 5;
+  private static final int SMALL_CATCH_UP = 1_000;
+  private static final long PROGRESS_EVERY_EVENTS = 100_000;
+
+  private final EventStorageEngine storageEngine;
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSource dataSource;
+  private final TransactionTemplate transactionTemplate;
+  private final PolicyCacheInvalidation cacheInvalidation;
+  private final PolicyStatisticsRepository statisticsRepository;
+  private final Executor taskExecutor;
+  private final int insertBatchSize;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  private volatile Phase phase = Phase.IDLE;
+  private volatile long eventsRead;
+  private volatile long policiesWritten;
+  private volatile OffsetDateTime startedAt;
+  private volatile OffsetDateTime finishedAt;
+  private volatile String error;
+
+  public PolicyProjectionRebuilder(
+      EventStorageEngine storageEngine,
+      JdbcTemplate jdbcTemplate,
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      PolicyCacheInvalidation cacheInvalidation,
+      PolicyStatisticsRepository statisticsRepository,
+      @Qualifier("applicationTaskExecutor") Executor taskExecutor,
+      @Value("${app.projection.rebuild.insert-batch-size:1000}") int insertBatchSize) {
+    this.storageEngine = storageEngine;
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSource = dataSource;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.cacheInvalidation = cacheInvalidation;
+    this.statisticsRepository = statisticsRepository;
+    this.taskExecutor = taskExecutor;
+    this.insertBatchSize = insertBatchSize;
+  }
+
+  @Override
+  public boolean start() {
+    if (!running.compareAndSet(false, true)) {
+      logger.warn("Policy projection rebuild already running, skipping");
+      return false;
+    }
+    Connection lock;
+    try {
+      lock = tryLock();
+    } catch (SQLException | RuntimeException e) {
+      running.set(false);
+      throw new IllegalStateException("Could not lock the policy projection rebuild", e);
+    }
+    if (lock == null) {
+      running.set(false);
+      logger.warn("Policy projection rebuild already running on another node, skipping");
+      return false;
+    }
+    eventsRead = 0;
+    policiesWritten = 0;
+    startedAt = OffsetDateTime.now();
+    finishedAt = null;
+    error = null;
+    phase = Phase.READING_EVENTS;
+    try {
+      taskExecutor.execute(() -> rebuild(lock));
+    } catch (RuntimeException e) {
+      unlock(lock);
+      fail(e);
+      throw e;
+    }
+    return true;
+  }
+
+  // The connection holding the lock, or null if another node holds it
+  private Connection tryLock() throws SQLException {
+    Connection connection = dataSource.getConnection();
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(TRY_LOCK_SQL)) {
+      if (rs.next() && rs.getBoolean(1)) {
+        return connection;
+      }
+    } catch (SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+    connection.close();
+    return null;
+  }
+
+  // Pooled connections outlive the session lock, so it is released explicitly
+  private static void unlock(Connection connection) {
+    try (connection;
+        Statement statement = connection.createStatement()) {
+      statement.execute(UNLOCK_SQL);
+    } catch (SQLException e) {
+      logger.warn("Could not release the policy projection rebuild lock", e);
+    }
+  }
+
+  @Override
+  public ProjectionRebuildStatus status() {
+    return new ProjectionRebuildStatus(
+        phase, eventsRead, policiesWritten, startedAt, finishedAt, error);
+  }
+
+  private void rebuild(Connection lock) {
+    try {
+      logger.info("Policy projection rebuild started");
+      Map<UUID, Policy> policies = new HashMap<>();
+      TrackingToken position = readEvents(null, policies, new HashSet<>());
+      logger.info(
+          "Read {} events of {} policies in {} ({} events/s)",
+          eventsRead,
+          policies.size(),
+          status().elapsed(),
+          Math.round(status().eventsPerSecond()));
+
+      phase = Phase.WRITING_ROWS;
+      jdbcTemplate.execute("DROP TABLE IF EXISTS " + REBUILD_TABLE);
+      jdbcTemplate.execute(
+          "CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)"
+              .formatted(REBUILD_TABLE, LIVE_TABLE));
+      insert(policies.values(), false);
+
+      phase = Phase.BUILDING_INDEXES;
+      List<IndexDefinition> indexes = buildIndexes();
+
+      phase = Phase.SWAPPING;
+      // Events stored while writing and indexing, until the remainder fits in the swap
+      for (int round = 0; round < MAX_CATCH_UP_ROUNDS; round++) {
+        Set<UUID> touched = new HashSet<>();
+        position = readEvents(position, policies, touched);
+        insert(touched.stream().map(policies::get).toList(), true);
+        if (touched.size() < SMALL_CATCH_UP) {
+          break;
+        }
+      }
+      swap(position, policies, indexes);
+      // The counters described the previous table
+      statisticsRepository.reconcile();
+
+      // On every node, their entries describe the previous table
+      cacheInvalidation.clear(PolicyQueryService.POLICY_BY_ID_CACHE);
+      cacheInvalidation.clear(PolicyQueryService.EXPIRING_POLICIES_CACHE);
+      finishedAt = OffsetDateTime.now();
+      phase = Phase.COMPLETED;
+      logger.info(
+          "Policy projection rebuild completed: {} events, {} policies in {}",
+          eventsRead,
+          policies.size(),
+          status().elapsed());
+    } catch (Exception e) {
+      fail(e);
+      logger.error("Policy projection rebuild failed, the live projection is unchanged", e);
+    } finally {
+      unlock(lock);
+      running.set(false);
+    }
+  }
+
+  private void fail(Exception e) {
+    error = e.getMessage();
+    finishedAt = OffsetDateTime.now();
+    phase = Phase.FAILED;
+    running.set(false);
+  }
+
+  /** Folds the events after {@code from} (all of them if null) and returns the last position. */
+  private TrackingToken readEvents(
+      TrackingToken from, Map<UUID, Policy> policies, Set<UUID> touched) {
+    TrackingToken position = from;
+    try (Stream<? extends TrackedEventMessage<?>> events = storageEngine.readEvents(from, false)) {
+      Iterator<? extends TrackedEventMessage<?>> iterator = events.iterator();
+      while (iterator.hasNext()) {
+        TrackedEventMessage<?> event = iterator.next();
+        if (event.getPayload() instanceof PolicyEvent policyEvent) {
+          fold(policies, policyEvent);
+          touched.add(policyEvent.policyId().toUUID());
+        }
+        position = event.trackingToken();
+        if (++eventsRead % PROGRESS_EVERY_EVENTS == 0) {
+          logger.info(
+              "Rebuild read {} events, {} policies ({} events/s)",
+              eventsRead,
+              policies.size(),
+              Math.round(status().eventsPerSecond()));
+        }
+      }
+    }
+    return position;
+  }
+
+  private static void fold(Map<UUID, Policy> policies, PolicyEvent event) {
+    UUID policyId = event.policyId().toUUID();
+    switch (event) {
+      case PolicyCreatedEvent created -> policies.put(policyId, Policy.fromCreatedEvent(created));
+      case PolicyUpdatedEvent updated ->
+          policies.computeIfPresent(policyId, (id, policy) -> policy.applyUpdatedEvent(updated));
+      case PolicyStatusUpdatedEvent statusUpdated ->
+          policies.computeIfPresent(
+              policyId,
+              (id, policy) ->
+                  policy.applyStatusUpdatedEvent(
+                      statusUpdated.newStatus(), statusUpdated.updatedAt()));
+    }
+  }
+
+  private void insert(Collection<Policy> policies, boolean upsert) {
+    LocalDate today = LocalDate.now();
+    List<Policy> batch = new ArrayList<>(insertBatchSize);
+    for (Policy policy : policies) {
+      batch.add(policy);
+      if (batch.size() == insertBatchSize) {
+        insertBatch(batch, upsert, today);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      insertBatch(batch, upsert, today);
+    }
+  }
+
+  // One multi-row INSERT per batch
+  private void insertBatch(List<Policy> batch, boolean upsert, LocalDate today) {
+    String sql =
+        "INSERT INTO %s (%s) VALUES %s%s"
+            .formatted(
+                REBUILD_TABLE,
+                COLUMNS,
+                String.join(", ", Collections.nCopies(batch.size(), ROW_PLACEHOLDERS)),
+                upsert ? UPSERT_CLAUSE : "");
+    Object[] args = new Object[batch.size() * 8];
+    int i = 0;
+    for (Policy policy : batch) {
+      args[i++] = policy.id().toUUID();
+      args[i++] = policy.name();
+      args[i++] = policy.status().name();
+      args[i++] = policy.startDate();
+      args[i++] = policy.endDate();
+      args[i++] = policy.createdAt();
+      args[i++] = policy.updatedAt();
+      args[i++] = policy.nextStatusTransitionDate(today);
+    }
+    jdbcTemplate.update(sql, args);
+    policiesWritten += batch.size();
+    if (policiesWritten % (PROGRESS_EVERY_EVENTS / 10) < batch.size()) {
+      logger.info("Rebuild wrote {} policies", policiesWritten);
+    }
+  }
+
+  /** Creates on the rebuild table the same indexes as on the live one. */
+  private List<IndexDefinition> buildIndexes() {
+    String primaryKey =
+        jdbcTemplate.queryForList(PRIMARY_KEY_SQL, String.class, LIVE_TABLE).stream()
+            .findFirst()
+            .orElse(null);
+    List<IndexDefinition> indexes =
+        jdbcTemplate.query(
+            INDEXES_SQL,
+            (rs, rowNum) ->
+                new IndexDefinition(
+                    rs.getString("indexname"),
+                    rs.getString("indexdef"),
+                    rs.getString("indexname").equals(primaryKey)),
+            LIVE_TABLE);
+    for (IndexDefinition index : indexes) {
+      long start = System.nanoTime();
+      jdbcTemplate.execute(index.rebuildDefinition());
+      if (index.primaryKey()) {
+        jdbcTemplate.execute(
+            "ALTER TABLE %s ADD CONSTRAINT %s PRIMARY KEY USING INDEX %s"
+                .formatted(REBUILD_TABLE, index.rebuildName(), index.rebuildName()));
+      }
+      logger.info(
+          "Rebuild created index {} in {} ms",
+          index.name(),
+          (System.nanoTime() - start) / 1_000_000);
+    }
+    return indexes;
+  }
+
+  private void swap(
+      TrackingToken position, Map<UUID, Policy> policies, List<IndexDefinition> indexes) {
+    transactionTemplate.executeWithoutResult(
+        tx -> {
+          // Reads go on; projection writes wait for the commit, then go to the renamed table
+          jdbcTemplate.execute("LOCK TABLE %s IN EXCLUSIVE MODE".formatted(LIVE_TABLE));
+          Set<UUID> touched = new HashSet<>();
+          readEvents(position, policies, touched);
+          insert(touched.stream().map(policies::get).toList(), true);
+
+          jdbcTemplate.execute("ALTER TABLE %s RENAME TO %s".formatted(LIVE_TABLE, OLD_TABLE));
+          jdbcTemplate.execute("ALTER TABLE %s RENAME TO %s".formatted(REBUILD_TABLE, LIVE_TABLE));
+          for (IndexDefinition index : indexes) {
+            jdbcTemplate.execute(
+                "ALTER INDEX %s RENAME TO %s".formatted(index.name(), index.name() + OLD_SUFFIX));
+            jdbcTemplate.execute(
+                "ALTER INDEX %s RENAME TO %s".formatted(index.rebuildName(), index.name()));
+          }
+          jdbcTemplate.execute("DROP TABLE " + OLD_TABLE);
+          logger.info(
+              "Swapped in the rebuilt policy projection, {} policies caught up under lock",
+              touched.size());
+        });
+  }
+
+  private record IndexDefinition(String name, String definition, boolean primaryKey) {
+
+    String rebuildName() {
+      return name + REBUILD_SUFFIX;
+    }
+
+    String rebuildDefinition() {
+      return definition
+          .replaceFirst("INDEX " + name + " ON ", "INDEX " + rebuildName() + " ON ")
+          .replaceFirst(" ON (\\S+\\.)?" + LIVE_TABLE + " ", " ON " + REBUILD_TABLE + " ");
+    }
+  }
+}
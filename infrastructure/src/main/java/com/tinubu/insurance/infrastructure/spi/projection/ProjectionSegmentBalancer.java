@@ -0,0 +1,185 @@
+package com.tinubu.insurance.infrastructure.spi.projection;
+
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Shares the segments of the policy projection between the nodes running it.
+ *
+ * <p>Each node records a heartbeat in {@code projection_node}. A node holding more than its fair
+ * share of segments releases the surplus for a while, so that a node which joined can claim it.
+ * Segments of a node that left are claimed by the others once its claims expire. The processor is
+ * also split up to the configured segment count when its tokens were created with fewer segments,
+ * one segment per round across the nodes.
+ */
+@Component
+public class ProjectionSegmentBalancer {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProjectionSegmentBalancer.class);
+
+  private static final String HEARTBEAT_SQL =
+      """
+      INSERT INTO projection_node (node_id, last_seen_at) VALUES (?, now())
+      ON CONFLICT (node_id) DO UPDATE SET last_seen_at = EXCLUDED.last_seen_at
+      """;
+
+  private static final String EXPIRE_NODES_SQL =
+      "DELETE FROM projection_node WHERE last_seen_at < now() - make_interval(secs => ?)";
+
+  private static final String LEAVE_SQL = "DELETE FROM projection_node WHERE node_id = ?";
+
+  private static final String COUNT_NODES_SQL = "SELECT count(*) FROM projection_node";
+
+  private static final String COUNT_SEGMENTS_SQL =
+      "SELECT count(*) FROM token_entry WHERE processor_name = ?";
+
+  // Released with the transaction, which lasts until the split token is stored
+  private static final String TRY_SPLIT_LOCK_SQL =
+      "SELECT pg_try_advisory_xact_lock(hashtext('policy_projection_split'))";
+
+  // Same identity as the owner Axon writes in token_entry
+  private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+  private final EventProcessingConfiguration eventProcessing;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int segmentCount;
+  private final long intervalMillis;
+
+  public ProjectionSegmentBalancer(
+      EventProcessingConfiguration eventProcessing,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${axon.eventhandling.processors.policy-projection.initial-segment-count:4}")
+          int segmentCount,
+      @Value("${app.projection.rebalance-interval-ms:10000}") long intervalMillis) {
+    this.eventProcessing = eventProcessing;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.segmentCount = segmentCount;
+    this.intervalMillis = intervalMillis;
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.projection.rebalance-interval-ms:10000}",
+      fixedDelayString = "${app.projection.rebalance-interval-ms:10000}")
+  public void rebalance() {
+    Optional<StreamingEventProcessor> processor =
+        eventProcessing.eventProcessor(
+            PolicyProjection.PROCESSING_GROUP, StreamingEventProcessor.class);
+    if (processor.isEmpty() || !processor.get().isRunning()) {
+      return;
+    }
+    try {
+      rebalance(processor.get());
+    } catch (RuntimeException e) {
+      logger.warn("Failed to rebalance the policy projection segments", e);
+    }
+  }
+
+  private void rebalance(StreamingEventProcessor processor) {
+    jdbcTemplate.update(HEARTBEAT_SQL, nodeId);
+    // A node missing three heartbeats is considered gone
+    jdbcTemplate.update(EXPIRE_NODES_SQL, 3 * intervalMillis / 1000.0);
+    int nodes = count(COUNT_NODES_SQL);
+    int segments = count(COUNT_SEGMENTS_SQL, PolicyProjection.PROCESSING_GROUP);
+    Map<Integer, EventTrackerStatus> claimed = processor.processingStatus();
+    if (segments == 0 || claimed.isEmpty()) {
+      return;
+    }
+
+    if (segments < segmentCount) {
+      transactionTemplate.executeWithoutResult(status -> split(processor, claimed));
+      return;
+    }
+
+    int fairShare = (segments + nodes - 1) / Math.max(nodes, 1);
+    int surplus = claimed.size() - fairShare;
+    if (surplus <= 0) {
+      return;
+    }
+    List<Integer> released =
+        claimed.keySet().stream().sorted(Comparator.reverseOrder()).limit(surplus).toList();
+    logger.info(
+        "Releasing policy projection segments {}: {} claimed, fair share {} over {} nodes",
+        released,
+        claimed.size(),
+        fairShare,
+        nodes);
+    // Long enough for another node to claim them before this one retries
+    released.forEach(
+        segmentId ->
+            processor.releaseSegment(segmentId, 2 * intervalMillis, TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Splits the largest claimed segment, unless another node is splitting or the processor reached
+   * the segment count meanwhile. Every node sees the same count in the same round, so without the
+   * lock they would all split and overshoot it. The count is read again under the lock, and the
+   * lock is held until the new token is stored, so the next node to take it sees that split.
+   */
+  private void split(StreamingEventProcessor processor, Map<Integer, EventTrackerStatus> claimed) {
+    if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_SPLIT_LOCK_SQL, Boolean.class))) {
+      return;
+    }
+    int segments = count(COUNT_SEGMENTS_SQL, PolicyProjection.PROCESSING_GROUP);
+    if (segments >= segmentCount) {
+      return;
+    }
+    Optional<Integer> largest =
+        claimed.values().stream()
+            .map(EventTrackerStatus::getSegment)
+            .min(Comparator.comparingInt(segment -> segment.getMask()))
+            .map(segment -> segment.getSegmentId());
+    if (largest.isEmpty()) {
+      return;
+    }
+    logger.info(
+        "Splitting policy projection segment {} ({} of {} segments)",
+        largest.get(),
+        segments,
+        segmentCount);
+    try {
+      if (!processor.splitSegment(largest.get()).get(intervalMillis, TimeUnit.MILLISECONDS)) {
+        logger.info("Policy projection segment {} was not split", largest.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      logger.warn("Failed to split policy projection segment {}", largest.get(), e);
+    }
+  }
+
+  // Lets the remaining nodes take over the segments without waiting for the heartbeat to expire
+  @PreDestroy
+  public void leave() {
+    try {
+      jdbcTemplate.update(LEAVE_SQL, nodeId);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to unregister projection node {}", nodeId, e);
+    }
+  }
+
+  private int count(String sql, Object... args) {
+    Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+    return count == null ? 0 : count;
+  }
+}
@@ -2,34 +2,94 @@ package com.tinubu.insurance.infrastructure.spi.repository;
 
 import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
 import com.tinubu.insurance.infrastructure.spi.entities.PolicyEntity;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PolicyDataRepository extends JpaRepository<PolicyEntity, UUID> {
+public interface PolicyDataRepository
+    extends JpaRepository<PolicyEntity, UUID>, JpaSpecificationExecutor<PolicyEntity> {
 
   Optional<PolicyEntity> findByPolicyId(UUID policyId);
 
+  List<PolicyEntity> findAllByOrderByCreatedAtAscPolicyIdAsc(Limit limit);
+
+  // Row value comparison, a seek on idx_policy_projection_created_at_policy_id whatever the depth
+  @Query(
+      "SELECT p FROM PolicyEntity p "
+          + "WHERE (p.createdAt, p.policyId) > (:createdAt, :policyId) "
+          + "ORDER BY p.createdAt, p.policyId")
+  List<PolicyEntity> findPageAfter(
+      @Param("createdAt") OffsetDateTime createdAt, @Param("policyId") UUID policyId, Limit limit);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("SELECT p FROM PolicyEntity p ORDER BY p.createdAt, p.policyId")
+  Stream<PolicyEntity> streamAll();
+
   List<PolicyEntity> findByStatus(PolicyStatus status);
 
-  List<PolicyEntity> findByIsExpiredTrue();
+  List<PolicyEntity> findByEndDateBefore(LocalDate date);
 
-  @Query("SELECT p FROM PolicyEntity p WHERE p.endDate BETWEEN :startDate AND :endDate")
+  // Range scans of idx_policy_projection_end_date_policy_id, already in (endDate, policyId) order
+  @Query(
+      "SELECT p FROM PolicyEntity p WHERE p.endDate BETWEEN :startDate AND :endDate "
+          + "ORDER BY p.endDate, p.policyId")
   List<PolicyEntity> findPoliciesExpiringBetween(
-      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Limit limit);
 
   @Query(
-      "SELECT p FROM PolicyEntity p WHERE p.status != "
-          + "CASE WHEN CURRENT_DATE < p.startDate OR CURRENT_DATE > p.endDate "
-          + "THEN 'INACTIVE' ELSE 'ACTIVE' END")
-  List<PolicyEntity> findPoliciesNeedingStatusUpdate();
+      "SELECT p FROM PolicyEntity p WHERE p.endDate BETWEEN :startDate AND :endDate "
+          + "AND (p.endDate, p.policyId) > (:afterEndDate, :afterPolicyId) "
+          + "ORDER BY p.endDate, p.policyId")
+  List<PolicyEntity> findPoliciesExpiringBetweenAfter(
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate,
+      @Param("afterEndDate") LocalDate afterEndDate,
+      @Param("afterPolicyId") UUID afterPolicyId,
+      Limit limit);
 
-  @Query("SELECT COUNT(p) FROM PolicyEntity p WHERE p.status = :status")
-  long countByStatus(@Param("status") PolicyStatus status);
+  // Range scans of idx_policy_projection_projected_at_policy_id, for the heap read model refresh
+  @Query(
+      "SELECT p FROM PolicyEntity p WHERE p.projectedAt >= :since "
+          + "ORDER BY p.projectedAt, p.policyId")
+  List<PolicyEntity> findProjectedSince(@Param("since") OffsetDateTime since, Limit limit);
+
+  // Row value comparison, a seek at the position of the previous batch rather than at since
+  @Query(
+      "SELECT p FROM PolicyEntity p WHERE p.projectedAt >= :since "
+          + "AND (p.projectedAt, p.policyId) > (:afterProjectedAt, :afterPolicyId) "
+          + "ORDER BY p.projectedAt, p.policyId")
+  List<PolicyEntity> findProjectedSinceAfter(
+      @Param("since") OffsetDateTime since,
+      @Param("afterProjectedAt") OffsetDateTime afterProjectedAt,
+      @Param("afterPolicyId") UUID afterPolicyId,
+      Limit limit);
+
+  // Range scan of idx_policy_projection_next_status_transition_date
+  @Query(
+      "SELECT p FROM PolicyEntity p "
+          + "WHERE p.nextStatusTransitionDate <= :dueOn "
+          + "AND p.policyId > :afterPolicyId AND p.policyId <= :upToPolicyId "
+          + "ORDER BY p.policyId")
+  List<PolicyEntity> findPoliciesNeedingStatusUpdate(
+      @Param("dueOn") LocalDate dueOn,
+      @Param("afterPolicyId") UUID afterPolicyId,
+      @Param("upToPolicyId") UUID upToPolicyId,
+      Limit limit);
 }
@@ -3,12 +3,20 @@ package com.tinubu.insurance.infrastructure.spi.repository;
 import com.tinubu.insurance.domain.policy.entity.Policy;
 import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
 import com.tinubu.insurance.domain.policy.port.PolicyRepository;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.infrastructure.spi.entities.PolicyEntity;
 import com.tinubu.insurance.infrastructure.spi.mappers.Mapper;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,6 +24,9 @@ import org.springframework.stereotype.Repository;
 public class PolicyDbRepository implements PolicyRepository<Policy, UUID> {
 
   private final PolicyDataRepository policyDataRepository;
+  private final EntityManager entityManager;
+  private final PolicyProjectionWriter projectionWriter;
+  private final PolicyStatisticsDbRepository statisticsRepository;
 
   @Override
   public Optional<Policy> findByPolicyId(UUID policyId) {
@@ -28,8 +39,75 @@ public class PolicyDbRepository implements PolicyRepository<Policy, UUID> {
   }
 
   @Override
-  public List<Policy> findPoliciesNeedingStatusUpdate() {
-    return policyDataRepository.findPoliciesNeedingStatusUpdate().stream()
+  public List<Policy> findFirstPage(int limit) {
+    return policyDataRepository.findAllByOrderByCreatedAtAscPolicyIdAsc(Limit.of(limit)).stream()
+        .map(Mapper::toPolicy)
+        .toList();
+  }
+
+  @Override
+  public List<Policy> findPageAfter(OffsetDateTime createdAt, UUID policyId, int limit) {
+    return policyDataRepository.findPageAfter(createdAt, policyId, Limit.of(limit)).stream()
+        .map(Mapper::toPolicy)
+        .toList();
+  }
+
+  // One SELECT ... WHERE ... ORDER BY ... LIMIT, without the count query of a Page
+  @Override
+  public List<Policy> search(
+      PolicySearchCriteria criteria,
+      PolicySort sort,
+      Comparable<?> afterValue,
+      UUID afterPolicyId,
+      int limit) {
+    Specification<PolicyEntity> specification = PolicySpecifications.matching(criteria);
+    if (afterPolicyId != null) {
+      specification =
+          specification.and(PolicySpecifications.after(sort, afterValue, afterPolicyId));
+    }
+    return policyDataRepository
+        .findBy(
+            specification,
+            query -> query.sortBy(PolicySpecifications.orderOf(sort)).limit(limit).all())
+        .stream()
+        .map(Mapper::toPolicy)
+        .toList();
+  }
+
+  /**
+   * Rows written by the projection, on any node, at or after {@code since} in database time, in
+   * (projectedAt, policyId) order; after the given position when {@code afterPolicyId} is set.
+   */
+  public List<ProjectedPolicy> findProjectedSince(
+      OffsetDateTime since, OffsetDateTime afterProjectedAt, UUID afterPolicyId, int limit) {
+    List<PolicyEntity> entities =
+        afterPolicyId == null
+            ? policyDataRepository.findProjectedSince(since, Limit.of(limit))
+            : policyDataRepository.findProjectedSinceAfter(
+                since, afterProjectedAt, afterPolicyId, Limit.of(limit));
+    return entities.stream()
+        .map(entity -> new ProjectedPolicy(Mapper.toPolicy(entity), entity.getProjectedAt()))
+        .toList();
+  }
+
+  @Override
+  public Stream<Policy> streamAll() {
+    return policyDataRepository
+        .streamAll()
+        .map(
+            entity -> {
+              // Keep the persistence context empty so heap use does not grow with the row count
+              entityManager.detach(entity);
+              return Mapper.toPolicy(entity);
+            });
+  }
+
+  @Override
+  public List<Policy> findPoliciesNeedingStatusUpdate(
+      LocalDate dueOn, UUID afterPolicyId, UUID upToPolicyId, int limit) {
+    return policyDataRepository
+        .findPoliciesNeedingStatusUpdate(dueOn, afterPolicyId, upToPolicyId, Limit.of(limit))
+        .stream()
         .map(Mapper::toPolicy)
         .toList();
   }
@@ -41,23 +119,63 @@ public class PolicyDbRepository implements PolicyRepository<Policy, UUID> {
 
   @Override
   public List<Policy> findExpiredPolicies() {
-    return policyDataRepository.findByIsExpiredTrue().stream().map(Mapper::toPolicy).toList();
+    return policyDataRepository.findByEndDateBefore(LocalDate.now()).stream()
+        .map(Mapper::toPolicy)
+        .toList();
   }
 
   @Override
-  public List<Policy> findPoliciesExpiringBetween(LocalDate startDate, LocalDate endDate) {
-    return policyDataRepository.findPoliciesExpiringBetween(startDate, endDate).stream()
+  public List<Policy> findPoliciesExpiringBetween(
+      LocalDate startDate, LocalDate endDate, int limit) {
+    return policyDataRepository
+        .findPoliciesExpiringBetween(startDate, endDate, Limit.of(limit))
+        .stream()
+        .map(Mapper::toPolicy)
+        .toList();
+  }
+
+  @Override
+  public List<Policy> findPoliciesExpiringBetweenAfter(
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalDate afterEndDate,
+      UUID afterPolicyId,
+      int limit) {
+    return policyDataRepository
+        .findPoliciesExpiringBetweenAfter(
+            startDate, endDate, afterEndDate, afterPolicyId, Limit.of(limit))
+        .stream()
         .map(Mapper::toPolicy)
         .toList();
   }
 
   @Override
   public long countByStatus(PolicyStatus status) {
-    return policyDataRepository.countByStatus(status);
+    // Maintained counter instead of a COUNT(*) over the projection
+    return statisticsRepository.countByStatus(status);
   }
 
   @Override
   public void save(Policy policy) {
-    policyDataRepository.save(Mapper.toPolicyEntity(policy));
+    projectionWriter.upsert(policy);
+  }
+
+  @Override
+  public void updateDetails(
+      UUID policyId,
+      String name,
+      PolicyStatus status,
+      LocalDate startDate,
+      LocalDate endDate,
+      OffsetDateTime updatedAt) {
+    projectionWriter.updateDetails(policyId, name, status, startDate, endDate, updatedAt);
   }
+
+  @Override
+  public void updateStatus(UUID policyId, PolicyStatus status, OffsetDateTime updatedAt) {
+    projectionWriter.updateStatus(policyId, status, updatedAt);
+  }
+
+  /** A policy with the database time of its last projection write. */
+  public record ProjectedPolicy(Policy policy, OffsetDateTime projectedAt) {}
 }
@@ -0,0 +1,321 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.port.PolicyRepository;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.infrastructure.spi.repository.PolicyDbRepository.ProjectedPolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Read model held in the heap, for read-heavy nodes. Loaded from {@code policy_projection} at
+ * startup, then updated by the projection writes of this node once they are committed, and
+ * refreshed from the rows projected by the other nodes.
+ *
+ * <p>Lookups by id, status and end date are served from concurrent maps without locking; the other
+ * queries and every write go to {@link PolicyDbRepository}. A policy is only ever replaced by a
+ * version updated at the same time or later, so the refresh and the projection can race safely.
+ */
+@Primary
+@Repository
+@Profile(PolicyHeapRepository.PROFILE)
+public class PolicyHeapRepository implements PolicyRepository<Policy, UUID> {
+
+  public static final String PROFILE = "heap-read-model";
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyHeapRepository.class);
+
+  private static final int REFRESH_PAGE_SIZE = 1000;
+
+  // Unsigned bounds, like the uuid ordering of PostgreSQL
+  private static final UUID LOWEST_ID = new UUID(0, 0);
+  private static final UUID HIGHEST_ID = new UUID(-1, -1);
+
+  private final PolicyDbRepository database;
+  private final TransactionTemplate transactionTemplate;
+  private final long refreshOverlapMillis;
+
+  private final Map<UUID, Policy> byId = new ConcurrentHashMap<>();
+  private final Map<PolicyStatus, Map<UUID, Policy>> byStatus = new EnumMap<>(PolicyStatus.class);
+  private final NavigableMap<ExpiryKey, Policy> byEndDate = new ConcurrentSkipListMap<>();
+
+  // Database time of the latest projection write read, or the node time of the hydration
+  private volatile OffsetDateTime refreshedUpTo;
+
+  public PolicyHeapRepository(
+      PolicyDbRepository database,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.heap-read-model.refresh-overlap-ms:60000}") long refreshOverlapMillis) {
+    this.database = database;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.refreshOverlapMillis = refreshOverlapMillis;
+    for (PolicyStatus status : PolicyStatus.values()) {
+      byStatus.put(status, new ConcurrentHashMap<>());
+    }
+    Gauge.builder("policy.heap.read.model.size", byId, Map::size)
+        .description("Policies held by the heap read model")
+        .register(meterRegistry);
+  }
+
+  // Before the event processors start, which apply their writes on top
+  @PostConstruct
+  void hydrate() {
+    long startTime = System.currentTimeMillis();
+    OffsetDateTime startedAt = OffsetDateTime.now();
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try (Stream<Policy> policies = database.streamAll()) {
+            policies.forEach(this::put);
+          }
+        });
+    refreshedUpTo = startedAt;
+    logger.info(
+        "Heap read model loaded: {} policies in {} ms",
+        byId.size(),
+        System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Reads the rows projected since the previous refresh, by projected_at rather than the event time
+   * in updated_at, so events projected late are not missed. Rows are stamped when their transaction
+   * starts, so the overlap re-reads those of transactions that committed later. Catches up on the
+   * segments processed by other nodes.
+   */
+  @Scheduled(
+      initialDelayString = "${app.heap-read-model.refresh-interval-ms:5000}",
+      fixedDelayString = "${app.heap-read-model.refresh-interval-ms:5000}")
+  public void refresh() {
+    OffsetDateTime since = refreshedUpTo.minusNanos(refreshOverlapMillis * 1_000_000);
+    OffsetDateTime latest = refreshedUpTo;
+    try {
+      List<ProjectedPolicy> page =
+          database.findProjectedSince(since, null, null, REFRESH_PAGE_SIZE);
+      while (!page.isEmpty()) {
+        page.forEach(projected -> put(projected.policy()));
+        ProjectedPolicy last = page.get(page.size() - 1);
+        if (last.projectedAt().isAfter(latest)) {
+          latest = last.projectedAt();
+        }
+        if (page.size() < REFRESH_PAGE_SIZE) {
+          break;
+        }
+        page =
+            database.findProjectedSince(
+                since, last.projectedAt(), last.policy().id().toUUID(), REFRESH_PAGE_SIZE);
+      }
+      refreshedUpTo = latest;
+    } catch (RuntimeException e) {
+      logger.warn("Failed to refresh the heap read model since {}", since, e);
+    }
+  }
+
+  @Override
+  public Optional<Policy> findByPolicyId(UUID policyId) {
+    return Optional.ofNullable(byId.get(policyId));
+  }
+
+  @Override
+  public List<Policy> findAll() {
+    return List.copyOf(byId.values());
+  }
+
+  @Override
+  public List<Policy> findFirstPage(int limit) {
+    return database.findFirstPage(limit);
+  }
+
+  @Override
+  public List<Policy> findPageAfter(OffsetDateTime createdAt, UUID policyId, int limit) {
+    return database.findPageAfter(createdAt, policyId, limit);
+  }
+
+  @Override
+  public List<Policy> search(
+      PolicySearchCriteria criteria,
+      PolicySort sort,
+      Comparable<?> afterValue,
+      UUID afterPolicyId,
+      int limit) {
+    return database.search(criteria, sort, afterValue, afterPolicyId, limit);
+  }
+
+  @Override
+  public Stream<Policy> streamAll() {
+    return database.streamAll();
+  }
+
+  @Override
+  public List<Policy> findPoliciesNeedingStatusUpdate(
+      LocalDate dueOn, UUID afterPolicyId, UUID upToPolicyId, int limit) {
+    return database.findPoliciesNeedingStatusUpdate(dueOn, afterPolicyId, upToPolicyId, limit);
+  }
+
+  @Override
+  public List<Policy> findByStatus(PolicyStatus status) {
+    return List.copyOf(byStatus.get(status).values());
+  }
+
+  @Override
+  public List<Policy> findExpiredPolicies() {
+    return List.copyOf(byEndDate.headMap(new ExpiryKey(LocalDate.now(), LOWEST_ID)).values());
+  }
+
+  @Override
+  public List<Policy> findPoliciesExpiringBetween(
+      LocalDate startDate, LocalDate endDate, int limit) {
+    return expiringBetween(new ExpiryKey(startDate, LOWEST_ID), true, endDate, limit);
+  }
+
+  @Override
+  public List<Policy> findPoliciesExpiringBetweenAfter(
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalDate afterEndDate,
+      UUID afterPolicyId,
+      int limit) {
+    ExpiryKey lowest = new ExpiryKey(startDate, LOWEST_ID);
+    ExpiryKey after = new ExpiryKey(afterEndDate, afterPolicyId);
+    return after.compareTo(lowest) < 0
+        ? expiringBetween(lowest, true, endDate, limit)
+        : expiringBetween(after, false, endDate, limit);
+  }
+
+  private List<Policy> expiringBetween(
+      ExpiryKey from, boolean fromInclusive, LocalDate endDate, int limit) {
+    ExpiryKey to = new ExpiryKey(endDate, HIGHEST_ID);
+    if (from.compareTo(to) > 0) {
+      return List.of();
+    }
+    return byEndDate.subMap(from, fromInclusive, to, true).values().stream().limit(limit).toList();
+  }
+
+  @Override
+  public long countByStatus(PolicyStatus status) {
+    return byStatus.get(status).size();
+  }
+
+  @Override
+  public void save(Policy policy) {
+    database.save(policy);
+    afterCommit(() -> put(policy));
+  }
+
+  @Override
+  public void updateDetails(
+      UUID policyId,
+      String name,
+      PolicyStatus status,
+      LocalDate startDate,
+      LocalDate endDate,
+      OffsetDateTime updatedAt) {
+    database.updateDetails(policyId, name, status, startDate, endDate, updatedAt);
+    afterCommit(
+        () ->
+            update(
+                policyId,
+                existing ->
+                    new Policy(
+                        existing.id(),
+                        name,
+                        status,
+                        startDate,
+                        endDate,
+                        existing.createdAt(),
+                        updatedAt)));
+  }
+
+  @Override
+  public void updateStatus(UUID policyId, PolicyStatus status, OffsetDateTime updatedAt) {
+    database.updateStatus(policyId, status, updatedAt);
+    afterCommit(
+        () -> update(policyId, existing -> existing.applyStatusUpdatedEvent(status, updatedAt)));
+  }
+
+  // Applying before the commit would expose rows that may still be rolled back
+  private static void afterCommit(Runnable change) {
+    if (CurrentUnitOfWork.isStarted()) {
+      CurrentUnitOfWork.get().root().afterCommit(uow -> change.run());
+    } else {
+      change.run();
+    }
+  }
+
+  // A policy missing from the heap is left to the next refresh
+  private void update(UUID policyId, UnaryOperator<Policy> change) {
+    Policy existing = byId.get(policyId);
+    if (existing != null) {
+      put(change.apply(existing));
+    }
+  }
+
+  /**
+   * Replaces the policy unless the held version is more recent. The indexes are updated while the
+   * id entry is locked, new entry first, so a reader never misses a policy.
+   */
+  private void put(Policy incoming) {
+    UUID policyId = incoming.id().toUUID();
+    byId.compute(
+        policyId,
+        (key, existing) -> {
+          if (existing != null
+              && (existing.equals(incoming)
+                  || existing.updatedAt().isAfter(incoming.updatedAt()))) {
+            return existing;
+          }
+          byStatus.get(incoming.status()).put(policyId, incoming);
+          byEndDate.put(new ExpiryKey(incoming.endDate(), policyId), incoming);
+          if (existing != null) {
+            // Conditional removals: a no-op when the entry was just replaced
+            byStatus.get(existing.status()).remove(policyId, existing);
+            byEndDate.remove(new ExpiryKey(existing.endDate(), policyId), existing);
+          }
+          return incoming;
+        });
+  }
+
+  /** Position in the (endDate, policyId) order, with policy ids compared as unsigned bytes. */
+  private record ExpiryKey(LocalDate endDate, UUID policyId) implements Comparable<ExpiryKey> {
+
+    @Override
+    public int compareTo(ExpiryKey other) {
+      int byDate = endDate.compareTo(other.endDate);
+      if (byDate != 0) {
+        return byDate;
+      }
+      int byHigh =
+          Long.compareUnsigned(
+              policyId.getMostSignificantBits(), other.policyId.getMostSignificantBits());
+      return byHigh != 0
+          ? byHigh
+          : Long.compareUnsigned(
+              policyId.getLeastSignificantBits(), other.policyId.getLeastSignificantBits());
+    }
+  }
+}
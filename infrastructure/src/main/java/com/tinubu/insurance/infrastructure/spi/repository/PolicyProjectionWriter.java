@@ -0,0 +1,315 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import com.tinubu.insurance.application.queries.FindPoliciesExpiringQuery;
+import com.tinubu.insurance.application.service.PolicyQueryService;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.infrastructure.spi.projection.PolicyCacheInvalidation;
+import com.tinubu.insurance.infrastructure.spi.repository.PolicyStatisticsDbRepository.Delta;
+import com.tinubu.insurance.infrastructure.spi.repository.PolicyStatisticsDbRepository.PolicyFacts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes projection rows with targeted INSERT/UPDATE statements keyed by policy_id, without loading
+ * the row first.
+ *
+ * <p>Inside an Axon unit of work (one per event batch of a processor segment) the writes are folded
+ * per policy and flushed as three JDBC batches just before the batch transaction commits. Outside
+ * of a unit of work they are executed immediately.
+ *
+ * <p>The cached expiring windows of every node are cleared once a flush touching a policy that
+ * ends, before or after the write, within them is committed.
+ */
+@Component
+public class PolicyProjectionWriter {
+
+  private static final Logger logger = LoggerFactory.getLogger(PolicyProjectionWriter.class);
+
+  private static final String PENDING_WRITES_RESOURCE =
+      PolicyProjectionWriter.class.getName() + ".pendingWrites";
+
+  private static final String UPSERT_SQL =
+      """
+      INSERT INTO policy_projection
+        (policy_id, name, status, start_date, end_date, created_at, updated_at,
+         next_status_transition_date)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (policy_id) DO UPDATE SET
+        name = EXCLUDED.name,
+        status = EXCLUDED.status,
+        start_date = EXCLUDED.start_date,
+        end_date = EXCLUDED.end_date,
+        created_at = EXCLUDED.created_at,
+        updated_at = EXCLUDED.updated_at,
+        next_status_transition_date = EXCLUDED.next_status_transition_date,
+        projected_at = now()
+      """;
+
+  private static final String UPDATE_DETAILS_SQL =
+      """
+      UPDATE policy_projection
+      SET name = ?, status = ?, start_date = ?, end_date = ?, updated_at = ?,
+          next_status_transition_date = ?, projected_at = now()
+      WHERE policy_id = ?
+      """;
+
+  private static final String UPDATE_STATUS_SQL =
+      """
+      UPDATE policy_projection p
+      SET status = v.status,
+          updated_at = v.updated_at,
+          next_status_transition_date = CASE
+            WHEN v.status = 'ACTIVE' THEN
+              CASE WHEN v.today < p.start_date OR v.today > p.end_date
+                THEN v.today ELSE p.end_date + 1 END
+            WHEN v.today < p.start_date THEN p.start_date
+            WHEN v.today <= p.end_date THEN v.today
+          END,
+          projected_at = now()
+      FROM (VALUES (CAST(? AS VARCHAR), CAST(? AS TIMESTAMPTZ), CAST(? AS DATE)))
+        AS v(status, updated_at, today)
+      WHERE p.policy_id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PolicyStatisticsDbRepository statistics;
+  private final PolicyCacheInvalidation cacheInvalidation;
+  private final MeterRegistry meterRegistry;
+  private final Timer flushTimer;
+
+  public PolicyProjectionWriter(
+      JdbcTemplate jdbcTemplate,
+      PolicyStatisticsDbRepository statistics,
+      PolicyCacheInvalidation cacheInvalidation,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.statistics = statistics;
+    this.cacheInvalidation = cacheInvalidation;
+    this.meterRegistry = meterRegistry;
+    this.flushTimer =
+        Timer.builder("policy.projection.flush")
+            .description("Projection writes flushed per event batch")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  public void upsert(Policy policy) {
+    PendingWrite write = new PendingWrite(WriteKind.UPSERT, policy.id().toUUID());
+    write.name = policy.name();
+    write.status = policy.status();
+    write.startDate = policy.startDate();
+    write.endDate = policy.endDate();
+    write.createdAt = policy.createdAt();
+    write.updatedAt = policy.updatedAt();
+    enqueue(write);
+  }
+
+  public void updateDetails(
+      UUID policyId,
+      String name,
+      PolicyStatus status,
+      LocalDate startDate,
+      LocalDate endDate,
+      OffsetDateTime updatedAt) {
+    PendingWrite write = new PendingWrite(WriteKind.DETAILS, policyId);
+    write.name = name;
+    write.status = status;
+    write.startDate = startDate;
+    write.endDate = endDate;
+    write.updatedAt = updatedAt;
+    enqueue(write);
+  }
+
+  public void updateStatus(UUID policyId, PolicyStatus status, OffsetDateTime updatedAt) {
+    PendingWrite write = new PendingWrite(WriteKind.STATUS, policyId);
+    write.status = status;
+    write.updatedAt = updatedAt;
+    enqueue(write);
+  }
+
+  private void enqueue(PendingWrite write) {
+    if (!CurrentUnitOfWork.isStarted()) {
+      if (flush(Map.of(write.policyId, write))) {
+        clearExpiringWindows();
+      }
+      return;
+    }
+    pendingWrites(CurrentUnitOfWork.get().root()).merge(write.policyId, write, PendingWrite::fold);
+  }
+
+  private Map<UUID, PendingWrite> pendingWrites(UnitOfWork<?> unitOfWork) {
+    return unitOfWork.getOrComputeResource(
+        PENDING_WRITES_RESOURCE,
+        key -> {
+          Map<UUID, PendingWrite> writes = new LinkedHashMap<>();
+          // Flush inside the batch transaction, right before it commits
+          unitOfWork.onPrepareCommit(
+              uow -> {
+                if (flush(writes)) {
+                  // Notified in this transaction, cleared on this node once it commits
+                  clearExpiringWindows();
+                }
+              });
+          return writes;
+        });
+  }
+
+  /** Returns whether a cached expiring window may have changed. */
+  private boolean flush(Map<UUID, PendingWrite> writes) {
+    if (writes.isEmpty()) {
+      return false;
+    }
+    return flushTimer.record(() -> flushBatches(writes));
+  }
+
+  // On every node
+  private void clearExpiringWindows() {
+    cacheInvalidation.clear(PolicyQueryService.EXPIRING_POLICIES_CACHE);
+  }
+
+  private boolean flushBatches(Map<UUID, PendingWrite> writes) {
+    List<Object[]> upserts = new ArrayList<>();
+    List<Object[]> details = new ArrayList<>();
+    List<Object[]> statuses = new ArrayList<>();
+    // Status-only updates compute the same date in SQL, from the stored coverage period
+    LocalDate today = LocalDate.now();
+    Map<UUID, PolicyFacts> before = statistics.currentFacts(writes.keySet());
+    Delta delta = new Delta();
+    boolean expiringWindowsChanged = false;
+
+    // Each policy appears in exactly one group, so the groups can be flushed in any order
+    for (PendingWrite write : writes.values()) {
+      PolicyFacts previous = before.get(write.policyId);
+      PolicyFacts next = factsAfter(write, previous);
+      delta.replace(previous, next);
+      expiringWindowsChanged |= inCachedExpiringWindows(previous, today);
+      expiringWindowsChanged |= inCachedExpiringWindows(next, today);
+      switch (write.kind) {
+        case UPSERT ->
+            upserts.add(
+                new Object[] {
+                  write.policyId,
+                  write.name,
+                  write.status.name(),
+                  write.startDate,
+                  write.endDate,
+                  write.createdAt,
+                  write.updatedAt,
+                  nextStatusTransitionDate(write, today)
+                });
+        case DETAILS ->
+            details.add(
+                new Object[] {
+                  write.name,
+                  write.status.name(),
+                  write.startDate,
+                  write.endDate,
+                  write.updatedAt,
+                  nextStatusTransitionDate(write, today),
+                  write.policyId
+                });
+        case STATUS ->
+            statuses.add(
+                new Object[] {write.status.name(), write.updatedAt, today, write.policyId});
+      }
+    }
+
+    batchUpdate(UPSERT_SQL, upserts, "upsert");
+    batchUpdate(UPDATE_DETAILS_SQL, details, "update");
+    batchUpdate(UPDATE_STATUS_SQL, statuses, "status update");
+    statistics.add(delta);
+    logger.debug(
+        "Flushed projection writes: {} upserts, {} updates, {} status updates",
+        upserts.size(),
+        details.size(),
+        statuses.size());
+    return expiringWindowsChanged;
+  }
+
+  private static boolean inCachedExpiringWindows(PolicyFacts facts, LocalDate today) {
+    return facts != null && FindPoliciesExpiringQuery.inCachedWindows(facts.endDate(), today);
+  }
+
+  // Updates of a missing row write nothing
+  private static PolicyFacts factsAfter(PendingWrite write, PolicyFacts before) {
+    return switch (write.kind) {
+      case UPSERT -> new PolicyFacts(write.status, write.startDate, write.endDate);
+      case DETAILS ->
+          before == null ? null : new PolicyFacts(write.status, write.startDate, write.endDate);
+      case STATUS -> before == null ? null : before.withStatus(write.status);
+    };
+  }
+
+  private static LocalDate nextStatusTransitionDate(PendingWrite write, LocalDate today) {
+    return Policy.nextStatusTransitionDate(write.status, write.startDate, write.endDate, today);
+  }
+
+  private void batchUpdate(String sql, List<Object[]> rows, String operation) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    int[] counts = jdbcTemplate.batchUpdate(sql, rows);
+    meterRegistry.counter("policy.projection.rows", "operation", operation).increment(rows.size());
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == 0) {
+        Object[] row = rows.get(i);
+        logger.warn("Policy not found for projection {}: {}", operation, row[row.length - 1]);
+      }
+    }
+  }
+
+  private enum WriteKind {
+    UPSERT, // Full row
+    DETAILS, // Every column but created_at
+    STATUS // Status only
+  }
+
+  private static final class PendingWrite {
+    private final UUID policyId;
+    private WriteKind kind;
+    private String name;
+    private PolicyStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+
+    private PendingWrite(WriteKind kind, UUID policyId) {
+      this.kind = kind;
+      this.policyId = policyId;
+    }
+
+    /** Applies a later write of the same policy on top of this one. */
+    private static PendingWrite fold(PendingWrite previous, PendingWrite next) {
+      if (next.kind == WriteKind.STATUS && previous.kind != WriteKind.STATUS) {
+        previous.status = next.status;
+        previous.updatedAt = next.updatedAt;
+        return previous;
+      }
+      if (next.kind == WriteKind.DETAILS && previous.kind == WriteKind.UPSERT) {
+        previous.name = next.name;
+        previous.status = next.status;
+        previous.startDate = next.startDate;
+        previous.endDate = next.endDate;
+        previous.updatedAt = next.updatedAt;
+        return previous;
+      }
+      // Upserts, and updates covering at least every column of the previous write, replace it
+      return next;
+    }
+  }
+}
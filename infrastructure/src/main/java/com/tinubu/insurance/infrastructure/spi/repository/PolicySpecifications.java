@@ -0,0 +1,80 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.infrastructure.spi.entities.PolicyEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Translates a policy search into a single WHERE clause and ORDER BY on policy_projection, so the
+ * filters and the keyset run in the database.
+ */
+final class PolicySpecifications {
+
+  private static final String POLICY_ID = "policyId";
+
+  private PolicySpecifications() {}
+
+  /** Every criterion set, combined with AND; unset ones add no predicate. */
+  static Specification<PolicyEntity> matching(PolicySearchCriteria criteria) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      if (!criteria.statuses().isEmpty()) {
+        predicates.add(root.get("status").in(criteria.statuses()));
+      }
+      between(
+          predicates, cb, root.get("startDate"), criteria.startDateFrom(), criteria.startDateTo());
+      between(predicates, cb, root.get("endDate"), criteria.endDateFrom(), criteria.endDateTo());
+      between(predicates, cb, root.get("createdAt"), criteria.createdFrom(), criteria.createdTo());
+      between(predicates, cb, root.get("updatedAt"), criteria.updatedFrom(), criteria.updatedTo());
+      return cb.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+
+  /**
+   * Rows strictly after (value, policyId) in the order of the sort. The leading bound on the field
+   * alone is what PostgreSQL turns into a seek on the (field, policy_id) index; the OR only drops
+   * the rows sharing the value that were already returned.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static Specification<PolicyEntity> after(PolicySort sort, Comparable<?> value, UUID policyId) {
+    return (root, query, cb) -> {
+      Expression<Comparable> field = root.get(sort.field().property());
+      Expression<UUID> id = root.get(POLICY_ID);
+      Comparable position = value;
+      return sort.descending()
+          ? cb.and(
+              cb.lessThanOrEqualTo(field, position),
+              cb.or(
+                  cb.lessThan(field, position),
+                  cb.and(cb.equal(field, position), cb.lessThan(id, policyId))))
+          : cb.and(
+              cb.greaterThanOrEqualTo(field, position),
+              cb.or(
+                  cb.greaterThan(field, position),
+                  cb.and(cb.equal(field, position), cb.greaterThan(id, policyId))));
+    };
+  }
+
+  static Sort orderOf(PolicySort sort) {
+    Sort.Direction direction = sort.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+    return Sort.by(direction, sort.field().property(), POLICY_ID);
+  }
+
+  private static <T extends Comparable<? super T>> void between(
+      List<Predicate> predicates, CriteriaBuilder cb, Expression<T> field, T from, T to) {
+    if (from != null) {
+      predicates.add(cb.greaterThanOrEqualTo(field, from));
+    }
+    if (to != null) {
+      predicates.add(cb.lessThanOrEqualTo(field, to));
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import com.tinubu.insurance.domain.policy.entity.PolicyStatistics;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.port.PolicyStatisticsRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Counters of {@code policy_statistics}, one row per (dimension, bucket).
+ *
+ * <p>{@link PolicyProjectionWriter} adds the difference between the rows it overwrites and the rows
+ * it writes, in the same transaction, so replayed events change nothing.
+ */
+@Repository
+public class PolicyStatisticsDbRepository implements PolicyStatisticsRepository {
+
+  private static final String LOAD_SQL =
+      "SELECT dimension, bucket, count FROM policy_statistics WHERE count <> 0";
+
+  // One primary key lookup; a missing row is a zero count
+  private static final String COUNT_BY_STATUS_SQL =
+      "SELECT count FROM policy_statistics WHERE dimension = 'STATUS' AND bucket = ?";
+
+  private static final String CURRENT_FACTS_SQL =
+      """
+      SELECT policy_id, status, start_date, end_date FROM policy_projection
+      WHERE policy_id = ANY (?)
+      """;
+
+  // Keyed by (dimension, bucket): concurrent projection segments only add to the counters
+  private static final String ADD_SQL =
+      """
+      INSERT INTO policy_statistics (dimension, bucket, count) VALUES (?, ?, ?)
+      ON CONFLICT (dimension, bucket) DO UPDATE SET count = policy_statistics.count + EXCLUDED.count
+      """;
+
+  private static final String RECOMPUTE_SQL =
+      """
+      INSERT INTO policy_statistics (dimension, bucket, count)
+      SELECT 'TOTAL', 'ALL', count(*) FROM policy_projection
+      UNION ALL
+      SELECT 'STATUS', status, count(*) FROM policy_projection GROUP BY status
+      UNION ALL
+      SELECT 'START_MONTH', to_char(start_date, 'YYYY-MM'), count(*) FROM policy_projection
+      GROUP BY to_char(start_date, 'YYYY-MM')
+      UNION ALL
+      SELECT 'END_MONTH', to_char(end_date, 'YYYY-MM'), count(*) FROM policy_projection
+      GROUP BY to_char(end_date, 'YYYY-MM')
+      """;
+
+  private static final String TOTAL_BUCKET = "ALL";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public PolicyStatisticsDbRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public PolicyStatistics load() {
+    long[] total = {0};
+    TreeMap<PolicyStatus, Long> byStatus = new TreeMap<>();
+    TreeMap<YearMonth, Long> startingByMonth = new TreeMap<>();
+    TreeMap<YearMonth, Long> endingByMonth = new TreeMap<>();
+    jdbcTemplate.query(
+        LOAD_SQL,
+        rs -> {
+          String bucket = rs.getString("bucket");
+          long count = rs.getLong("count");
+          switch (Dimension.valueOf(rs.getString("dimension"))) {
+            case TOTAL -> total[0] = count;
+            case STATUS -> byStatus.put(PolicyStatus.valueOf(bucket), count);
+            case START_MONTH -> startingByMonth.put(YearMonth.parse(bucket), count);
+            case END_MONTH -> endingByMonth.put(YearMonth.parse(bucket), count);
+          }
+        });
+    return new PolicyStatistics(total[0], byStatus, startingByMonth, endingByMonth);
+  }
+
+  @Override
+  @Transactional
+  public PolicyStatistics reconcile() {
+    // Blocks projection writes, not reads, so no delta lands in between
+    jdbcTemplate.execute("LOCK TABLE policy_projection IN SHARE MODE");
+    jdbcTemplate.update("DELETE FROM policy_statistics");
+    jdbcTemplate.update(RECOMPUTE_SQL);
+    return load();
+  }
+
+  /** Counter of the given status, without loading the other dimensions. */
+  long countByStatus(PolicyStatus status) {
+    Long count =
+        jdbcTemplate.query(
+            COUNT_BY_STATUS_SQL, rs -> rs.next() ? rs.getLong("count") : 0L, status.name());
+    return count == null ? 0L : count;
+  }
+
+  /** Statistics-relevant columns of the given policies, as currently stored. */
+  Map<UUID, PolicyFacts> currentFacts(Collection<UUID> policyIds) {
+    Map<UUID, PolicyFacts> facts = new HashMap<>();
+    if (policyIds.isEmpty()) {
+      return facts;
+    }
+    jdbcTemplate.query(
+        CURRENT_FACTS_SQL,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", policyIds.toArray())),
+        rs -> {
+          facts.put(
+              rs.getObject("policy_id", UUID.class),
+              new PolicyFacts(
+                  PolicyStatus.valueOf(rs.getString("status")),
+                  rs.getObject("start_date", LocalDate.class),
+                  rs.getObject("end_date", LocalDate.class)));
+        });
+    return facts;
+  }
+
+  void add(Delta delta) {
+    List<Object[]> rows = new ArrayList<>();
+    // Same order in every transaction, so concurrent segments cannot deadlock on the counters
+    delta.counts.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(
+            entry ->
+                rows.add(
+                    new Object[] {
+                      entry.getKey().dimension().name(), entry.getKey().bucket(), entry.getValue()
+                    }));
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(ADD_SQL, rows);
+    }
+  }
+
+  enum Dimension {
+    TOTAL,
+    STATUS,
+    START_MONTH,
+    END_MONTH
+  }
+
+  record Bucket(Dimension dimension, String bucket) implements Comparable<Bucket> {
+    private static final Comparator<Bucket> ORDER =
+        Comparator.comparing(Bucket::dimension).thenComparing(Bucket::bucket);
+
+    @Override
+    public int compareTo(Bucket other) {
+      return ORDER.compare(this, other);
+    }
+  }
+
+  /** The columns of a projection row that the counters depend on. */
+  record PolicyFacts(PolicyStatus status, LocalDate startDate, LocalDate endDate) {
+
+    PolicyFacts withStatus(PolicyStatus newStatus) {
+      return new PolicyFacts(newStatus, startDate, endDate);
+    }
+  }
+
+  /** Counter changes of one flush: minus the overwritten rows, plus the written ones. */
+  static final class Delta {
+    private final Map<Bucket, Long> counts = new HashMap<>();
+
+    void replace(PolicyFacts before, PolicyFacts after) {
+      if (before != null && before.equals(after)) {
+        return;
+      }
+      if (before != null) {
+        add(before, -1);
+      }
+      if (after != null) {
+        add(after, 1);
+      }
+    }
+
+    private void add(PolicyFacts facts, long sign) {
+      counts.merge(new Bucket(Dimension.TOTAL, TOTAL_BUCKET), sign, Long::sum);
+      counts.merge(new Bucket(Dimension.STATUS, facts.status().name()), sign, Long::sum);
+      counts.merge(
+          new Bucket(Dimension.START_MONTH, YearMonth.from(facts.startDate()).toString()),
+          sign,
+          Long::sum);
+      counts.merge(
+          new Bucket(Dimension.END_MONTH, YearMonth.from(facts.endDate()).toString()),
+          sign,
+          Long::sum);
+    }
+  }
+}
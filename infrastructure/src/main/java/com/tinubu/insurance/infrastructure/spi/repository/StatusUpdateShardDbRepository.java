@@ -0,0 +1,150 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import com.tinubu.insurance.domain.policy.entity.StatusUpdateShard;
+import com.tinubu.insurance.domain.policy.port.StatusUpdateShardRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Claims and checkpoints are single statements, so concurrent nodes never lease the same shard and
+ * a node that lost its lease cannot overwrite the progress of the node that took it over.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatusUpdateShardDbRepository implements StatusUpdateShardRepository {
+
+  private static final String COLUMNS =
+      "run_date, shard, last_policy_id, up_to_policy_id, succeeded, failed, started_at, "
+          + "finished_at, owner";
+
+  private static final String FIND_BY_RUN_DATE_SQL =
+      "SELECT " + COLUMNS + " FROM policy_status_update_run WHERE run_date = ? ORDER BY shard";
+
+  private static final String FIND_UNFINISHED_SQL =
+      "SELECT "
+          + COLUMNS
+          + " FROM policy_status_update_run"
+          + " WHERE run_date = (SELECT max(run_date) FROM policy_status_update_run)"
+          + " AND finished_at IS NULL ORDER BY shard";
+
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO policy_status_update_run
+        (run_date, shard, last_policy_id, up_to_policy_id, succeeded, failed, started_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (run_date, shard) DO NOTHING
+      """;
+
+  // Shards locked by a concurrent claim are skipped rather than waited for
+  private static final String CLAIM_SQL =
+      """
+      UPDATE policy_status_update_run r
+      SET owner = ?, lease_until = now() + make_interval(secs => ?)
+      FROM (
+        SELECT run_date, shard FROM policy_status_update_run
+        WHERE run_date = ? AND finished_at IS NULL
+          AND (owner IS NULL OR owner = ? OR lease_until < now())
+        ORDER BY shard
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+      ) claimed
+      WHERE r.run_date = claimed.run_date AND r.shard = claimed.shard
+      RETURNING r.run_date, r.shard, r.last_policy_id, r.up_to_policy_id, r.succeeded, r.failed,
+        r.started_at, r.finished_at, r.owner
+      """;
+
+  private static final String SAVE_IF_OWNED_SQL =
+      """
+      UPDATE policy_status_update_run
+      SET last_policy_id = ?, succeeded = ?, failed = ?, finished_at = ?,
+          lease_until = now() + make_interval(secs => ?)
+      WHERE run_date = ? AND shard = ? AND owner = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<StatusUpdateShard> findByRunDate(LocalDate runDate) {
+    return jdbcTemplate.query(
+        FIND_BY_RUN_DATE_SQL, StatusUpdateShardDbRepository::toShard, runDate);
+  }
+
+  @Override
+  public List<StatusUpdateShard> findUnfinished() {
+    return jdbcTemplate.query(FIND_UNFINISHED_SQL, StatusUpdateShardDbRepository::toShard);
+  }
+
+  @Override
+  public void createAll(List<StatusUpdateShard> shards) {
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        shards.stream()
+            .map(
+                shard ->
+                    new Object[] {
+                      shard.runDate(),
+                      shard.shard(),
+                      shard.lastPolicyId(),
+                      shard.upToPolicyId(),
+                      shard.succeeded(),
+                      shard.failed(),
+                      shard.startedAt()
+                    })
+            .toList());
+  }
+
+  @Override
+  public Optional<StatusUpdateShard> claim(LocalDate runDate, String owner, Duration lease) {
+    return jdbcTemplate
+        .query(
+            CLAIM_SQL,
+            StatusUpdateShardDbRepository::toShard,
+            owner,
+            seconds(lease),
+            runDate,
+            owner)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public boolean saveIfOwned(StatusUpdateShard shard, Duration lease) {
+    return jdbcTemplate.update(
+            SAVE_IF_OWNED_SQL,
+            shard.lastPolicyId(),
+            shard.succeeded(),
+            shard.failed(),
+            shard.finishedAt(),
+            seconds(lease),
+            shard.runDate(),
+            shard.shard(),
+            shard.owner())
+        > 0;
+  }
+
+  private static double seconds(Duration duration) {
+    return duration.toMillis() / 1000.0;
+  }
+
+  private static StatusUpdateShard toShard(ResultSet rs, int rowNum) throws SQLException {
+    return new StatusUpdateShard(
+        rs.getObject("run_date", LocalDate.class),
+        rs.getInt("shard"),
+        rs.getObject("last_policy_id", UUID.class),
+        rs.getObject("up_to_policy_id", UUID.class),
+        rs.getInt("succeeded"),
+        rs.getInt("failed"),
+        rs.getObject("started_at", OffsetDateTime.class),
+        rs.getObject("finished_at", OffsetDateTime.class),
+        rs.getString("owner"));
+  }
+}
@@ -0,0 +1,9 @@
+package com.tinubu.insurance.infrastructure;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+/** Root of the slice tests: entities and Spring Data repositories are found from this package. */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class InfrastructureTestApplication {}
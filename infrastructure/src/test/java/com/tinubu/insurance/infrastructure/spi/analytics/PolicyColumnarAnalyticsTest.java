@@ -0,0 +1,239 @@
+package com.tinubu.insurance.infrastructure.spi.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tinubu.insurance.application.queries.CoverageCounts;
+import com.tinubu.insurance.application.queries.CoverageHistogram;
+import com.tinubu.insurance.application.queries.CoverageWindow;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.events.PolicyCreatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyStatusUpdatedEvent;
+import com.tinubu.insurance.domain.policy.events.PolicyUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * The columnar scans give, for every window and status filter, the same answers as checking each
+ * policy day by day: clamping to the window, inclusive start and end days, the slice boundaries and
+ * the packed status bits.
+ */
+class PolicyColumnarAnalyticsTest {
+
+  private static final LocalDate DAY_ZERO = LocalDate.of(2025, 1, 1);
+  private static final OffsetDateTime EVENT_TIME =
+      OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  // Slices of a query, whatever the cores of the machine running the test
+  private static final int PARALLELISM = 4;
+
+  private static final List<Set<PolicyStatus>> STATUS_FILTERS =
+      List.of(Set.of(), Set.of(PolicyStatus.ACTIVE), Set.of(PolicyStatus.INACTIVE));
+
+  private PolicyColumnarAnalytics analytics;
+  private final List<Row> rows = new ArrayList<>();
+
+  @BeforeEach
+  void createAnalytics() {
+    analytics =
+        new PolicyColumnarAnalytics(
+            new StaticListableBeanFactory().getBeanProvider(EventProcessingConfiguration.class),
+            new SimpleMeterRegistry(),
+            PARALLELISM);
+  }
+
+  @Test
+  void windowBoundariesAreInclusiveAndClamped() {
+    create(10, 10, PolicyStatus.ACTIVE);
+    create(5, 20, PolicyStatus.ACTIVE);
+    create(12, 30, PolicyStatus.INACTIVE);
+    create(20, 25, PolicyStatus.ACTIVE);
+    create(0, 100, PolicyStatus.ACTIVE);
+
+    // Single days on the start and end of each policy, and around them
+    for (int day = -1; day <= 101; day++) {
+      assertMatchesEveryDay(day, day);
+    }
+    // Windows starting or ending on a policy boundary, inside or around the policies
+    int[] boundaries = {-5, 0, 4, 5, 9, 10, 11, 12, 19, 20, 21, 25, 26, 30, 31, 100, 101, 120};
+    for (int first : boundaries) {
+      for (int last : boundaries) {
+        if (first <= last) {
+          assertMatchesEveryDay(first, last);
+        }
+      }
+    }
+  }
+
+  @Test
+  void slicesAddUpToTheWholeTable() {
+    // Three slices of at least 1 << 15 rows, split where no slice starts on a status word
+    Random random = new Random(42);
+    for (int i = 0; i < 3 * (1 << 15) + 1234; i++) {
+      int start = random.nextInt(700);
+      create(
+          start,
+          start + random.nextInt(400),
+          random.nextInt(10) == 0 ? PolicyStatus.INACTIVE : PolicyStatus.ACTIVE);
+    }
+
+    assertMatchesEveryDay(-10, 60);
+    assertMatchesEveryDay(300, 300);
+    assertMatchesEveryDay(650, 720);
+    assertMatchesEveryDay(1050, 1110);
+  }
+
+  @Test
+  void statusBitsOfEachRowAreIndependent() {
+    // One single-day policy per day, so the histogram shows the status of each row on its own,
+    // across several status words
+    for (int i = 0; i < 200; i++) {
+      create(i, i, i % 3 == 0 ? PolicyStatus.INACTIVE : PolicyStatus.ACTIVE);
+    }
+    assertMatchesEveryDay(0, 199);
+
+    // Flip rows on both sides of the word boundaries, both ways
+    for (int i : new int[] {0, 1, 62, 63, 64, 65, 127, 128, 199}) {
+      updateStatus(
+          i,
+          rows.get(i).status() == PolicyStatus.ACTIVE
+              ? PolicyStatus.INACTIVE
+              : PolicyStatus.ACTIVE);
+    }
+    assertMatchesEveryDay(0, 199);
+
+    // A full update rewrites the row in place, status included
+    update(63, 150, 160, PolicyStatus.INACTIVE);
+    update(64, 63, 64, PolicyStatus.ACTIVE);
+    assertMatchesEveryDay(0, 199);
+  }
+
+  private void assertMatchesEveryDay(int first, int last) {
+    for (Set<PolicyStatus> statuses : STATUS_FILTERS) {
+      CoverageWindow window = new CoverageWindow(day(first), day(last), statuses);
+
+      CoverageHistogram histogram = analytics.coverageHistogram(window);
+      CoverageCounts counts = analytics.coverageCounts(window);
+
+      assertThat(histogram.inForce()).as("%s", window).containsExactly(expectedInForce(window));
+      assertThat(counts).as("%s", window).isEqualTo(expectedCounts(window));
+    }
+  }
+
+  private int[] expectedInForce(CoverageWindow window) {
+    int[] inForce = new int[window.days()];
+    for (Row row : rows) {
+      if (!row.counted(window)) {
+        continue;
+      }
+      for (int day = 0; day < inForce.length; day++) {
+        if (row.inForceOn(first(window) + day)) {
+          inForce[day]++;
+        }
+      }
+    }
+    return inForce;
+  }
+
+  // Derived from the days each policy is in force on, not from its start and end dates
+  private CoverageCounts expectedCounts(CoverageWindow window) {
+    long overlapping = 0;
+    long covering = 0;
+    long starting = 0;
+    long ending = 0;
+    for (Row row : rows) {
+      if (!row.counted(window)) {
+        continue;
+      }
+      int daysInForce = 0;
+      for (int day = first(window); day <= last(window); day++) {
+        if (row.inForceOn(day)) {
+          daysInForce++;
+        }
+      }
+      if (daysInForce > 0) {
+        overlapping++;
+        if (daysInForce == window.days()) {
+          covering++;
+        }
+        if (!row.inForceOn(first(window) - 1)) {
+          starting++;
+        }
+        if (!row.inForceOn(last(window) + 1)) {
+          ending++;
+        }
+      }
+    }
+    return new CoverageCounts(overlapping, covering, starting, ending);
+  }
+
+  private void create(int startDay, int endDay, PolicyStatus status) {
+    Row row = new Row(UUID.randomUUID(), startDay, endDay, status);
+    rows.add(row);
+    analytics.on(
+        new PolicyCreatedEvent(
+            PolicyId.fromUUID(row.policyId()),
+            "Policy",
+            status,
+            day(row.startDay()),
+            day(row.endDay()),
+            EVENT_TIME,
+            EVENT_TIME));
+  }
+
+  private void update(int index, int startDay, int endDay, PolicyStatus status) {
+    Row row = new Row(rows.get(index).policyId(), startDay, endDay, status);
+    rows.set(index, row);
+    analytics.on(
+        new PolicyUpdatedEvent(
+            PolicyId.fromUUID(row.policyId()),
+            "Policy",
+            status,
+            day(row.startDay()),
+            day(row.endDay()),
+            EVENT_TIME));
+  }
+
+  private void updateStatus(int index, PolicyStatus status) {
+    Row row = rows.get(index);
+    rows.set(index, new Row(row.policyId(), row.startDay(), row.endDay(), status));
+    analytics.on(
+        new PolicyStatusUpdatedEvent(
+            PolicyId.fromUUID(row.policyId()), row.status(), status, "test", EVENT_TIME));
+  }
+
+  // Days are counted from DAY_ZERO, keeping the brute force cheap on the large table
+  private static LocalDate day(int day) {
+    return DAY_ZERO.plusDays(day);
+  }
+
+  private static int first(CoverageWindow window) {
+    return (int) (window.from().toEpochDay() - DAY_ZERO.toEpochDay());
+  }
+
+  private static int last(CoverageWindow window) {
+    return (int) (window.to().toEpochDay() - DAY_ZERO.toEpochDay());
+  }
+
+  private record Row(UUID policyId, int startDay, int endDay, PolicyStatus status) {
+
+    boolean counted(CoverageWindow window) {
+      return window.statuses().isEmpty() || window.statuses().contains(status);
+    }
+
+    boolean inForceOn(int day) {
+      return day >= startDay && day <= endDay;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.domain.policy.search.PolicySortField;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * A search is one SELECT on policy_projection carrying every filter, the keyset, the order and the
+ * limit, and returns the same policies as filtering and sorting all of them.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.liquibase.change-log=classpath:db/db-changelog.xml",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.tinubu.insurance.infrastructure.spi.repository.RecordingStatementInspector"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PolicyDbRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyDbRepositorySearchTest {
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  private static final int POLICY_COUNT = 40;
+  private static final LocalDate FIRST_START_DATE = LocalDate.of(2025, 1, 1);
+  private static final OffsetDateTime FIRST_CREATED_AT =
+      OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO policy_projection
+        (policy_id, name, status, start_date, end_date, created_at, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final PolicySearchCriteria CRITERIA =
+      new PolicySearchCriteria(
+          Set.of(PolicyStatus.ACTIVE),
+          FIRST_START_DATE.plusDays(2),
+          FIRST_START_DATE.plusDays(34),
+          LocalDate.of(2026, 1, 31),
+          null,
+          FIRST_CREATED_AT.plusHours(4),
+          null,
+          null,
+          FIRST_CREATED_AT.plusHours(30));
+
+  private static final PolicySort SORT = new PolicySort(PolicySortField.END_DATE, true);
+  private static final int LIMIT = 5;
+
+  @Autowired private PolicyDbRepository repository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  // Not used by search
+  @MockitoBean private PolicyProjectionWriter projectionWriter;
+  @MockitoBean private PolicyStatisticsDbRepository statisticsRepository;
+
+  private final List<Row> rows = new ArrayList<>();
+
+  @BeforeEach
+  void insertPolicies() {
+    // Four end dates only, so the order relies on the policy id tie-break
+    for (int i = 0; i < POLICY_COUNT; i++) {
+      OffsetDateTime createdAt = FIRST_CREATED_AT.plusHours(i);
+      rows.add(
+          new Row(
+              new UUID(0L, i + 1L),
+              i % 3 == 0 ? PolicyStatus.INACTIVE : PolicyStatus.ACTIVE,
+              FIRST_START_DATE.plusDays(i),
+              LocalDate.of(2026, 1, 1).plusDays(30L * (i % 4)),
+              createdAt,
+              createdAt.plusMinutes(i)));
+    }
+    for (Row row : rows) {
+      jdbcTemplate.update(
+          INSERT_SQL,
+          row.policyId(),
+          "Policy " + row.policyId(),
+          row.status().name(),
+          row.startDate(),
+          row.endDate(),
+          row.createdAt(),
+          row.updatedAt());
+    }
+    RecordingStatementInspector.clear();
+  }
+
+  @Test
+  void firstPageIsOneFilteredSortedAndLimitedSelect() {
+    List<Policy> page = repository.search(CRITERIA, SORT, null, null, LIMIT);
+
+    assertThat(ids(page)).isEqualTo(expected(null).stream().limit(LIMIT).toList());
+    String sql = singleSelect();
+    assertThat(whereClause(sql))
+        .contains(
+            "status in",
+            "start_date>=?",
+            "start_date<=?",
+            "end_date>=?",
+            "created_at>=?",
+            "updated_at<=?");
+    assertOrderedAndLimited(sql);
+  }
+
+  @Test
+  void nextPageIsOneSelectStartingAfterTheKeyset() {
+    List<Policy> firstPage = repository.search(CRITERIA, SORT, null, null, LIMIT);
+    Policy last = firstPage.getLast();
+    RecordingStatementInspector.clear();
+
+    List<Policy> page =
+        repository.search(CRITERIA, SORT, last.endDate(), last.id().toUUID(), LIMIT);
+
+    assertThat(ids(page)).isEqualTo(expected(last).stream().limit(LIMIT).toList());
+    String sql = singleSelect();
+    // The leading bound is what the index is sought on, the OR only breaks the tie
+    assertThat(whereClause(sql)).contains("status in", "end_date<=?", "end_date<?", "policy_id<?");
+    assertOrderedAndLimited(sql);
+  }
+
+  // The only statement of the search, whitespace removed
+  private static String singleSelect() {
+    List<String> statements = RecordingStatementInspector.statements();
+    assertThat(statements).hasSize(1);
+    String sql = statements.getFirst().toLowerCase().replaceAll("\\s+", "");
+    assertThat(sql).startsWith("select").contains("frompolicy_projection");
+    return sql;
+  }
+
+  private static String whereClause(String sql) {
+    assertThat(sql).contains("where", "orderby");
+    return sql.substring(sql.indexOf("where"), sql.indexOf("orderby"));
+  }
+
+  private static void assertOrderedAndLimited(String sql) {
+    assertThat(sql)
+        .containsPattern("orderby\\w+\\.end_datedesc,\\w+\\.policy_iddesc")
+        .containsPattern("(fetchfirst\\?rowsonly|limit\\?)$");
+  }
+
+  // Every policy matching the criteria after the given one, in the order of the sort
+  private List<UUID> expected(Policy after) {
+    Comparator<Row> order =
+        Comparator.comparing(Row::endDate).thenComparing(Row::policyId).reversed();
+    Row afterRow =
+        after == null
+            ? null
+            : rows.stream()
+                .filter(row -> row.policyId().equals(after.id().toUUID()))
+                .findFirst()
+                .orElseThrow();
+    return rows.stream()
+        .filter(PolicyDbRepositorySearchTest::matchesCriteria)
+        .filter(row -> afterRow == null || order.compare(row, afterRow) > 0)
+        .sorted(order)
+        .map(Row::policyId)
+        .toList();
+  }
+
+  private static boolean matchesCriteria(Row row) {
+    return CRITERIA.statuses().contains(row.status())
+        && !row.startDate().isBefore(CRITERIA.startDateFrom())
+        && !row.startDate().isAfter(CRITERIA.startDateTo())
+        && !row.endDate().isBefore(CRITERIA.endDateFrom())
+        && !row.createdAt().isBefore(CRITERIA.createdFrom())
+        && !row.updatedAt().isAfter(CRITERIA.updatedTo());
+  }
+
+  private static List<UUID> ids(List<Policy> policies) {
+    return policies.stream().map(policy -> policy.id().toUUID()).toList();
+  }
+
+  private record Row(
+      UUID policyId,
+      PolicyStatus status,
+      LocalDate startDate,
+      LocalDate endDate,
+      OffsetDateTime createdAt,
+      OffsetDateTime updatedAt) {}
+}
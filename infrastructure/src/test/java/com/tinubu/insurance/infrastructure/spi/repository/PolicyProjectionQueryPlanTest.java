@@ -0,0 +1,287 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import com.tinubu.insurance.domain.policy.search.PolicySort;
+import com.tinubu.insurance.domain.policy.search.PolicySortField;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Each read path of policy_projection must be served by its index. The plans are checked on a table
+ * large enough, and analyzed, for the planner to prefer an index over a sequential scan, and are
+ * those of the statements the repository actually sends, with the parameters it binds. Every page
+ * after the first starts deep in the table and must seek its position, not filter up to it.
+ */
+@DataJpaTest(properties = "spring.liquibase.change-log=classpath:db/db-changelog.xml")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PolicyDbRepository.class, StatementRecorder.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// VACUUM cannot run inside the transaction of the test
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyProjectionQueryPlanTest {
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  // 1% inactive, about 1% expired and 1% expiring within 30 days, 0.1% due for a status update
+  private static final String LOAD_POLICIES_SQL =
+      """
+      INSERT INTO policy_projection
+        (policy_id, name, status, start_date, end_date, created_at, updated_at,
+         next_status_transition_date, projected_at)
+      SELECT gen_random_uuid(),
+             'Policy ' || i,
+             CASE WHEN i % 100 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+             current_date - 400 + i % 3650,
+             current_date - 35 + i % 3650,
+             now() - i * interval '1 second',
+             now() - i * interval '1 second',
+             CASE WHEN i % 1000 = 0 THEN current_date ELSE current_date + 1 + i % 3650 END,
+             now() - i * interval '1 second'
+      FROM generate_series(1, 200000) AS i
+      """;
+
+  // Positions half way through the rows each page-after path reads
+  private static final String CREATED_AT_POSITION_SQL =
+      "SELECT created_at, policy_id FROM policy_projection "
+          + "ORDER BY created_at, policy_id OFFSET 100000 LIMIT 1";
+  private static final String EXPIRING_POSITION_SQL =
+      "SELECT end_date, policy_id FROM policy_projection "
+          + "WHERE end_date BETWEEN current_date AND current_date + 30 "
+          + "ORDER BY end_date, policy_id OFFSET 800 LIMIT 1";
+  private static final String SEARCH_POSITION_SQL =
+      "SELECT end_date, policy_id FROM policy_projection WHERE status = 'ACTIVE' "
+          + "ORDER BY end_date DESC, policy_id DESC OFFSET 100000 LIMIT 1";
+  private static final String PROJECTED_AT_POSITION_SQL =
+      "SELECT projected_at, policy_id FROM policy_projection "
+          + "WHERE projected_at >= now() - interval '1 day' "
+          + "ORDER BY projected_at, policy_id OFFSET 40000 LIMIT 1";
+
+  // First of the 16 status update shards
+  private static final UUID SHARD_LOWER_BOUND = new UUID(0L, 0L);
+  private static final UUID SHARD_UPPER_BOUND =
+      UUID.fromString("0fffffff-ffff-ffff-ffff-ffffffffffff");
+
+  private static final PolicySearchCriteria ACTIVE =
+      new PolicySearchCriteria(
+          Set.of(PolicyStatus.ACTIVE), null, null, null, null, null, null, null, null);
+  private static final PolicySort END_DATE_DESCENDING =
+      new PolicySort(PolicySortField.END_DATE, true);
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private DataSource dataSource;
+  @Autowired private PolicyDbRepository repository;
+
+  // Not used by the read paths
+  @MockitoBean private PolicyProjectionWriter projectionWriter;
+  @MockitoBean private PolicyStatisticsDbRepository statisticsRepository;
+
+  @BeforeAll
+  void loadPolicies() {
+    jdbcTemplate.update(LOAD_POLICIES_SQL);
+    jdbcTemplate.execute("VACUUM ANALYZE policy_projection");
+  }
+
+  // Read path, index of its plan, text of the index condition it seeks on (none when it reads the
+  // index from its start) and the repository call
+  Stream<Arguments> readPaths() {
+    return Stream.of(
+        Arguments.of(
+            "findByStatus",
+            "idx_policy_projection_status",
+            "status",
+            (ReadPath) () -> repository.findByStatus(PolicyStatus.INACTIVE)),
+        Arguments.of(
+            "findExpiredPolicies",
+            "idx_policy_projection_end_date_policy_id",
+            "end_date",
+            (ReadPath) () -> repository.findExpiredPolicies()),
+        Arguments.of(
+            "findPoliciesExpiringBetween",
+            "idx_policy_projection_end_date_policy_id",
+            "end_date",
+            (ReadPath)
+                () -> repository.findPoliciesExpiringBetween(today(), today().plusDays(30), 51)),
+        Arguments.of(
+            "findPoliciesExpiringBetweenAfter",
+            "idx_policy_projection_end_date_policy_id",
+            "ROW(end_date, policy_id)",
+            (ReadPath)
+                () -> {
+                  Position after = position(EXPIRING_POSITION_SQL);
+                  repository.findPoliciesExpiringBetweenAfter(
+                      today(), today().plusDays(30), after.date(), after.policyId(), 51);
+                }),
+        Arguments.of(
+            "findFirstPage",
+            "idx_policy_projection_created_at_policy_id",
+            null,
+            (ReadPath) () -> repository.findFirstPage(51)),
+        Arguments.of(
+            "findPageAfter",
+            "idx_policy_projection_created_at_policy_id",
+            "ROW(created_at, policy_id)",
+            (ReadPath)
+                () -> {
+                  Position after = position(CREATED_AT_POSITION_SQL);
+                  repository.findPageAfter(after.time(), after.policyId(), 51);
+                }),
+        Arguments.of(
+            "search",
+            "idx_policy_projection_end_date_policy_id",
+            null,
+            (ReadPath) () -> repository.search(ACTIVE, END_DATE_DESCENDING, null, null, 51)),
+        Arguments.of(
+            "search next page",
+            "idx_policy_projection_end_date_policy_id",
+            "end_date <=",
+            (ReadPath)
+                () -> {
+                  Position after = position(SEARCH_POSITION_SQL);
+                  repository.search(
+                      ACTIVE, END_DATE_DESCENDING, after.date(), after.policyId(), 51);
+                }),
+        Arguments.of(
+            "findPoliciesNeedingStatusUpdate",
+            "idx_policy_projection_next_status_transition_date",
+            "next_status_transition_date",
+            (ReadPath)
+                () ->
+                    repository.findPoliciesNeedingStatusUpdate(
+                        today(), SHARD_LOWER_BOUND, SHARD_UPPER_BOUND, 500)),
+        Arguments.of(
+            "findProjectedSince",
+            "idx_policy_projection_projected_at_policy_id",
+            "projected_at",
+            (ReadPath)
+                () ->
+                    repository.findProjectedSince(
+                        databaseTime("now() - interval '1 minute'"), null, null, 1000)),
+        Arguments.of(
+            "findProjectedSinceAfter",
+            "idx_policy_projection_projected_at_policy_id",
+            "ROW(projected_at, policy_id)",
+            (ReadPath)
+                () -> {
+                  Position after = position(PROJECTED_AT_POSITION_SQL);
+                  repository.findProjectedSince(
+                      databaseTime("now() - interval '1 day'"),
+                      after.time(),
+                      after.policyId(),
+                      1000);
+                }));
+  }
+
+  @ParameterizedTest(name = "{0} uses {1}")
+  @MethodSource("readPaths")
+  void readPathUsesItsIndex(
+      String readPath, String expectedIndex, String expectedIndexCondition, ReadPath call)
+      throws Exception {
+    StatementRecorder.clear();
+    call.run();
+    assertThat(StatementRecorder.statements()).as(readPath).hasSize(1);
+
+    JsonNode plan = explain(StatementRecorder.last());
+
+    assertThat(indexNames(plan)).as(plan.toString()).contains(expectedIndex);
+    if (expectedIndexCondition != null) {
+      // A seek, not a walk of the index filtering every row up to the position
+      assertThat(indexConditions(plan))
+          .as(plan.toString())
+          .anyMatch(condition -> condition.contains(expectedIndexCondition));
+    }
+  }
+
+  @FunctionalInterface
+  interface ReadPath {
+    void run() throws Exception;
+  }
+
+  private record Position(Object value, UUID policyId) {
+
+    LocalDate date() {
+      return (LocalDate) value;
+    }
+
+    OffsetDateTime time() {
+      return (OffsetDateTime) value;
+    }
+  }
+
+  private Position position(String sql) {
+    return jdbcTemplate.queryForObject(
+        sql,
+        (rs, rowNum) ->
+            new Position(
+                "date".equals(rs.getMetaData().getColumnTypeName(1))
+                    ? rs.getObject(1, LocalDate.class)
+                    : rs.getObject(1, OffsetDateTime.class),
+                rs.getObject(2, UUID.class)));
+  }
+
+  // Database date and time, the ones the loaded rows are relative to
+  private LocalDate today() {
+    return jdbcTemplate.queryForObject("SELECT current_date", LocalDate.class);
+  }
+
+  private OffsetDateTime databaseTime(String expression) {
+    return jdbcTemplate.queryForObject("SELECT " + expression, OffsetDateTime.class);
+  }
+
+  // Plan of the statement as the repository sent it, with the parameters it bound
+  private JsonNode explain(StatementRecorder.RecordedStatement recorded) throws Exception {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = recorded.prepare(connection, "EXPLAIN (FORMAT JSON) ");
+        ResultSet result = statement.executeQuery()) {
+      result.next();
+      return JSON.readTree(result.getString(1));
+    }
+  }
+
+  // Index Name of every index, index-only and bitmap index scan node of the plan
+  private static List<String> indexNames(JsonNode plan) {
+    List<String> names = new ArrayList<>();
+    plan.findValues("Index Name").forEach(name -> names.add(name.asText()));
+    return names;
+  }
+
+  private static List<String> indexConditions(JsonNode plan) {
+    List<String> conditions = new ArrayList<>();
+    plan.findValues("Index Cond").forEach(condition -> conditions.add(condition.asText()));
+    return conditions;
+  }
+}
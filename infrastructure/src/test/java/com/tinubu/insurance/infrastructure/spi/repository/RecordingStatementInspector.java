@@ -0,0 +1,27 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate sends, registered with hibernate.session_factory.statement_inspector.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+  private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String inspect(String sql) {
+    statements.add(sql);
+    return sql;
+  }
+
+  static List<String> statements() {
+    return List.copyOf(statements);
+  }
+
+  static void clear() {
+    statements.clear();
+  }
+}
@@ -0,0 +1,127 @@
+package com.tinubu.insurance.infrastructure.spi.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Records the SELECTs sent through the DataSource together with their parameters, so a test can
+ * explain the exact statement the repository sent rather than a hand-written copy of it.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementRecorder {
+
+  private static final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+  @Bean
+  static BeanPostProcessor recordingDataSource() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? recording(dataSource) : bean;
+      }
+    };
+  }
+
+  static List<RecordedStatement> statements() {
+    return List.copyOf(statements);
+  }
+
+  static RecordedStatement last() {
+    return statements.getLast();
+  }
+
+  static void clear() {
+    statements.clear();
+  }
+
+  /** A prepared SELECT and the parameter setter calls made on it, in order. */
+  record RecordedStatement(String sql, List<Binding> bindings) {
+
+    /** Prepares {@code prefix + sql} on the connection and binds the recorded parameters. */
+    PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+      PreparedStatement statement = connection.prepareStatement(prefix + sql);
+      for (Binding binding : bindings) {
+        try {
+          binding.setter().invoke(statement, binding.args());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+          statement.close();
+          throw new SQLException("Could not bind " + binding, e);
+        }
+      }
+      return statement;
+    }
+  }
+
+  record Binding(Method setter, Object[] args) {}
+
+  private static DataSource recording(DataSource dataSource) {
+    return proxy(
+        DataSource.class,
+        dataSource,
+        (method, args, result) ->
+            result instanceof Connection connection
+                ? proxy(Connection.class, connection, StatementRecorder::recordPrepared)
+                : result);
+  }
+
+  private static Object recordPrepared(Method method, Object[] args, Object result) {
+    if (!(result instanceof PreparedStatement statement)
+        || !method.getName().equals("prepareStatement")
+        || !((String) args[0]).stripLeading().toLowerCase().startsWith("select")) {
+      return result;
+    }
+    RecordedStatement recorded = new RecordedStatement((String) args[0], new ArrayList<>());
+    return proxy(
+        PreparedStatement.class,
+        statement,
+        (called, calledArgs, calledResult) -> {
+          if (called.getName().startsWith("set")
+              && calledArgs != null
+              && calledArgs.length >= 2
+              && calledArgs[0] instanceof Integer) {
+            recorded.bindings().add(new Binding(called, calledArgs));
+          } else if (called.getName().startsWith("execute")) {
+            statements.add(recorded);
+          }
+          return calledResult;
+        });
+  }
+
+  @FunctionalInterface
+  private interface AfterCall {
+    Object apply(Method method, Object[] args, Object result) throws Throwable;
+  }
+
+  // Delegates every call, then lets afterCall replace the result. Implements every interface of
+  // the target, Closeable included, so the pool is still closed with the context
+  private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          Object result;
+          try {
+            result = method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          }
+          return afterCall.apply(method, args, result);
+        };
+    return type.cast(
+        Proxy.newProxyInstance(
+            StatementRecorder.class.getClassLoader(),
+            ClassUtils.getAllInterfaces(target),
+            handler));
+  }
+}
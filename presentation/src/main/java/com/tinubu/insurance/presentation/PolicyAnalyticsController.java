@@ -0,0 +1,51 @@
+package com.tinubu.insurance.presentation;
+
+import com.tinubu.insurance.application.queries.CoverageCounts;
+import com.tinubu.insurance.application.queries.CoverageHistogram;
+import com.tinubu.insurance.application.queries.CoverageWindow;
+import com.tinubu.insurance.application.queries.FindCoverageCountsQuery;
+import com.tinubu.insurance.application.queries.FindCoverageHistogramQuery;
+import com.tinubu.insurance.application.service.PolicyQueryService;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Windows default to the last 365 days, today included; status may be repeated
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/policies/analytics")
+public class PolicyAnalyticsController {
+
+  private final PolicyQueryService queryService;
+
+  @GetMapping("/coverage")
+  public CoverageHistogram getCoverageHistogram(
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+      @RequestParam(required = false) List<PolicyStatus> status) {
+    return queryService.handle(new FindCoverageHistogramQuery(window(from, to, status)));
+  }
+
+  @GetMapping("/counts")
+  public CoverageCounts getCoverageCounts(
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to,
+      @RequestParam(required = false) List<PolicyStatus> status) {
+    return queryService.handle(new FindCoverageCountsQuery(window(from, to, status)));
+  }
+
+  private static CoverageWindow window(LocalDate from, LocalDate to, List<PolicyStatus> status) {
+    LocalDate windowEnd = to != null ? to : LocalDate.now();
+    LocalDate windowStart = from != null ? from : windowEnd.minusDays(364);
+    return new CoverageWindow(
+        windowStart, windowEnd, status == null ? Set.of() : Set.copyOf(status));
+  }
+}
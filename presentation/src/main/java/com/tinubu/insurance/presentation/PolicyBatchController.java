@@ -0,0 +1,124 @@
+package com.tinubu.insurance.presentation;
+
+import com.tinubu.insurance.application.commands.CreatePolicyCommand;
+import com.tinubu.insurance.application.commands.PolicyCommand;
+import com.tinubu.insurance.application.commands.PolicyCommandResult;
+import com.tinubu.insurance.application.commands.UpdatePolicyCommand;
+import com.tinubu.insurance.application.exception.ValidationError;
+import com.tinubu.insurance.application.service.PolicyBatchCommandService;
+import com.tinubu.insurance.application.service.ProjectionConsistency;
+import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.presentation.dto.BatchOperation;
+import com.tinubu.insurance.presentation.dto.BatchPolicyItem;
+import com.tinubu.insurance.presentation.dto.BatchPolicyItemResult;
+import com.tinubu.insurance.presentation.dto.BatchPolicyRequest;
+import com.tinubu.insurance.presentation.dto.BatchPolicyResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Separate controller: the ":batch" suffix cannot be combined with the "/api/v1/policies" mapping
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1")
+@CrossOrigin(exposedHeaders = PolicyController.CONSISTENCY_TOKEN_HEADER)
+public class PolicyBatchController {
+
+  private final PolicyBatchCommandService batchCommandService;
+  private final Validator validator;
+  private final ProjectionConsistency consistency;
+
+  @PostMapping("/policies:batch")
+  public ResponseEntity<BatchPolicyResponse> executeBatch(
+      @Valid @RequestBody BatchPolicyRequest request) {
+    List<BatchPolicyItem> items = request.items();
+    BatchPolicyItemResult[] results = new BatchPolicyItemResult[items.size()];
+    List<PolicyCommand> commands = new ArrayList<>();
+    List<Integer> commandIndexes = new ArrayList<>();
+
+    for (int index = 0; index < items.size(); index++) {
+      BatchPolicyItem item = items.get(index);
+      List<ValidationError> errors = validate(item);
+      if (errors.isEmpty()) {
+        commands.add(toCommand(item));
+        commandIndexes.add(index);
+      } else {
+        results[index] = BatchPolicyItemResult.failure(index, item.policyId(), errors);
+      }
+    }
+
+    long headBefore = consistency.headPosition();
+    List<PolicyCommandResult> dispatched = batchCommandService.dispatchAll(commands);
+    for (int i = 0; i < dispatched.size(); i++) {
+      int index = commandIndexes.get(i);
+      PolicyCommandResult result = dispatched.get(i);
+      UUID policyId = result.policyId().toUUID();
+      results[index] =
+          result.succeeded()
+              ? BatchPolicyItemResult.success(index, policyId)
+              : BatchPolicyItemResult.failure(
+                  index,
+                  policyId,
+                  List.of(ValidationError.builder().defaultMessage(result.error()).build()));
+    }
+
+    int succeeded = (int) Arrays.stream(results).filter(BatchPolicyItemResult::succeeded).count();
+    return ResponseEntity.ok()
+        .header(
+            PolicyController.CONSISTENCY_TOKEN_HEADER, consistency.tokenSince(headBefore).encode())
+        .body(new BatchPolicyResponse(succeeded, results.length - succeeded, List.of(results)));
+  }
+
+  private List<ValidationError> validate(BatchPolicyItem item) {
+    if (item == null) {
+      return List.of(ValidationError.builder().defaultMessage("Item must not be null").build());
+    }
+    List<ValidationError> errors = new ArrayList<>();
+    validator
+        .validate(item)
+        .forEach(
+            violation ->
+                errors.add(
+                    ValidationError.builder()
+                        .field(violation.getPropertyPath().toString())
+                        .defaultMessage(violation.getMessage())
+                        .build()));
+    if (item.operation() == BatchOperation.UPDATE && item.policyId() == null) {
+      errors.add(
+          ValidationError.builder()
+              .field("policyId")
+              .defaultMessage("Policy id must not be null for UPDATE")
+              .build());
+    }
+    return errors;
+  }
+
+  private static PolicyCommand toCommand(BatchPolicyItem item) {
+    return switch (item.operation()) {
+      case CREATE ->
+          new CreatePolicyCommand(
+              PolicyId.fromUUID(UUID.randomUUID()),
+              item.name(),
+              item.status(),
+              item.startDate(),
+              item.endDate());
+      case UPDATE ->
+          new UpdatePolicyCommand(
+              PolicyId.fromUUID(item.policyId()),
+              item.name(),
+              item.status(),
+              item.startDate(),
+              item.endDate());
+    };
+  }
+}
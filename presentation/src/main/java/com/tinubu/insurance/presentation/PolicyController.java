@@ -1,67 +1,185 @@
 package com.tinubu.insurance.presentation;
 
+import com.tinubu.insurance.application.queries.ConsistencyToken;
 import com.tinubu.insurance.application.queries.FindAllPoliciesQuery;
+import com.tinubu.insurance.application.queries.FindPoliciesExpiringQuery;
 import com.tinubu.insurance.application.queries.FindPolicyByIdQuery;
+import com.tinubu.insurance.application.queries.FindPolicyStatisticsQuery;
+import com.tinubu.insurance.application.queries.PolicyPage;
+import com.tinubu.insurance.application.queries.SearchPoliciesQuery;
 import com.tinubu.insurance.application.service.PolicyCommandService;
+import com.tinubu.insurance.application.service.PolicyExportFormat;
+import com.tinubu.insurance.application.service.PolicyExportService;
 import com.tinubu.insurance.application.service.PolicyQueryService;
 import com.tinubu.insurance.application.service.PolicyStatusSchedulerService;
+import com.tinubu.insurance.application.service.ProjectionConsistency;
 import com.tinubu.insurance.domain.policy.entity.Policy;
 import com.tinubu.insurance.domain.policy.entity.PolicyId;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatistics;
 import com.tinubu.insurance.presentation.dto.CreatePolicyRequest;
+import com.tinubu.insurance.presentation.dto.CreatePolicyResponse;
+import com.tinubu.insurance.presentation.dto.PolicyPageResponse;
+import com.tinubu.insurance.presentation.dto.PolicySearchRequest;
 import com.tinubu.insurance.presentation.dto.UpdatePolicyRequest;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.time.LocalDate;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/policies")
-@CrossOrigin
+@CrossOrigin(exposedHeaders = PolicyController.CONSISTENCY_TOKEN_HEADER)
 public class PolicyController {
 
+  /** Returned by writes; a read sending it back sees at least the state after that write. */
+  public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
   private final PolicyCommandService commandService;
   private final PolicyQueryService queryService;
   private final PolicyStatusSchedulerService schedulerService;
+  private final PolicyExportService exportService;
+  private final ProjectionConsistency consistency;
 
+  // Completes once the command is handled; errors go through GlobalExceptionHandler
   @PostMapping
-  @ResponseStatus(HttpStatus.CREATED)
-  public void createPolicy(@Valid @RequestBody CreatePolicyRequest request) {
-    commandService.createPolicy(
-        request.name(), request.status(), request.startDate(), request.endDate());
+  public CompletableFuture<ResponseEntity<CreatePolicyResponse>> createPolicy(
+      @Valid @RequestBody CreatePolicyRequest request) {
+    // Built on the request thread, the future may complete on another one
+    UriComponentsBuilder location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}");
+    long headBefore = consistency.headPosition();
+    return commandService
+        .createPolicy(request.name(), request.status(), request.startDate(), request.endDate())
+        .thenApply(
+            policyId ->
+                ResponseEntity.created(location.buildAndExpand(policyId.toUUID()).toUri())
+                    .header(CONSISTENCY_TOKEN_HEADER, consistency.tokenSince(headBefore).encode())
+                    .body(new CreatePolicyResponse(policyId.toUUID())));
   }
 
   @PutMapping("/{id}")
-  @ResponseStatus(HttpStatus.OK)
-  public void updatePolicy(@PathVariable UUID id, @Valid @RequestBody UpdatePolicyRequest request) {
-    commandService.updatePolicy(
-        PolicyId.fromUUID(id),
-        request.name(),
-        request.status(),
-        request.startDate(),
-        request.endDate());
+  public CompletableFuture<ResponseEntity<Void>> updatePolicy(
+      @PathVariable UUID id, @Valid @RequestBody UpdatePolicyRequest request) {
+    long headBefore = consistency.headPosition();
+    return commandService
+        .updatePolicy(
+            PolicyId.fromUUID(id),
+            request.name(),
+            request.status(),
+            request.startDate(),
+            request.endDate())
+        .thenApply(
+            ignored ->
+                ResponseEntity.ok()
+                    .header(CONSISTENCY_TOKEN_HEADER, consistency.tokenSince(headBefore).encode())
+                    .build());
   }
 
+  // With a consistency token, waits (without holding the request thread) for the projection, then
+  // reads it past the cache
   @GetMapping("/{id}")
-  public ResponseEntity<Policy> getPolicyById(@PathVariable UUID id) {
-    Policy policy = queryService.handle(new FindPolicyByIdQuery(PolicyId.fromUUID(id)));
-    return policy != null ? ResponseEntity.ok(policy) : ResponseEntity.notFound().build();
+  public CompletableFuture<ResponseEntity<Policy>> getPolicyById(
+      @PathVariable UUID id,
+      @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) String consistencyToken) {
+    CompletableFuture<Void> caughtUp =
+        consistencyToken == null
+            ? CompletableFuture.completedFuture(null)
+            : consistency.awaitProcessed(ConsistencyToken.decode(consistencyToken));
+    return caughtUp.thenApply(
+        ignored -> {
+          FindPolicyByIdQuery query = new FindPolicyByIdQuery(PolicyId.fromUUID(id));
+          Policy policy =
+              consistencyToken == null
+                  ? queryService.handle(query)
+                  : queryService.handleUncached(query);
+          return policy != null ? ResponseEntity.ok(policy) : ResponseEntity.notFound().build();
+        });
   }
 
   @GetMapping
-  public ResponseEntity<List<Policy>> getAllPolicies() {
-    List<Policy> policies = queryService.handle(new FindAllPoliciesQuery());
-    return ResponseEntity.ok(policies);
+  public ResponseEntity<PolicyPageResponse> getAllPolicies(
+      @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int limit) {
+    return pageResponse(queryService.handle(new FindAllPoliciesQuery(cursor, limit)));
+  }
+
+  // Defaults to the next 30 days; the 7, 30 and 90 days windows from today are cached for the day
+  @GetMapping("/expiring")
+  public ResponseEntity<PolicyPageResponse> getExpiringPolicies(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int limit) {
+    LocalDate windowStart = from != null ? from : LocalDate.now();
+    LocalDate windowEnd = to != null ? to : windowStart.plusDays(30);
+    return pageResponse(
+        queryService.handle(new FindPoliciesExpiringQuery(windowStart, windowEnd, cursor, limit)));
+  }
+
+  // Filters and order are pushed down to a single indexed query
+  @GetMapping("/search")
+  public ResponseEntity<PolicyPageResponse> searchPolicies(
+      @ModelAttribute PolicySearchRequest request,
+      @RequestParam(defaultValue = "createdAt") String sort,
+      @RequestParam(defaultValue = "asc") String direction,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int limit) {
+    return pageResponse(
+        queryService.handle(
+            new SearchPoliciesQuery(
+                request.toCriteria(), SearchPoliciesQuery.sortOf(sort, direction), cursor, limit)));
+  }
+
+  private static ResponseEntity<PolicyPageResponse> pageResponse(PolicyPage page) {
+    if (page.nextCursor() == null) {
+      return ResponseEntity.ok(new PolicyPageResponse(page.policies(), null, null));
+    }
+    String next =
+        ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("cursor", page.nextCursor())
+            .toUriString();
+    return ResponseEntity.ok()
+        .header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next))
+        .body(new PolicyPageResponse(page.policies(), page.nextCursor(), next));
+  }
+
+  // Reads the maintained counters, whatever the number of policies
+  @GetMapping("/stats")
+  public PolicyStatistics getStatistics() {
+    return queryService.handle(new FindPolicyStatisticsQuery());
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportPolicies(
+      @RequestParam(defaultValue = "ndjson") String format) {
+    PolicyExportFormat exportFormat = PolicyExportFormat.fromString(format);
+    ContentDisposition disposition =
+        ContentDisposition.attachment()
+            .filename("policies." + exportFormat.fileExtension())
+            .build();
+    StreamingResponseBody body = out -> exportService.export(exportFormat, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+        .body(body);
   }
 }
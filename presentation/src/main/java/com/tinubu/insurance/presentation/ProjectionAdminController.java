@@ -0,0 +1,39 @@
+package com.tinubu.insurance.presentation;
+
+import com.tinubu.insurance.application.queries.ProjectionRebuildStatus;
+import com.tinubu.insurance.application.service.PolicyStatisticsService;
+import com.tinubu.insurance.application.service.ProjectionRebuild;
+import com.tinubu.insurance.domain.policy.entity.PolicyStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin/projection")
+public class ProjectionAdminController {
+
+  private final ProjectionRebuild projectionRebuild;
+  private final PolicyStatisticsService statisticsService;
+
+  // Runs in the background, follow it with GET
+  @PostMapping("/rebuild")
+  public ResponseEntity<ProjectionRebuildStatus> rebuild() {
+    HttpStatus status = projectionRebuild.start() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+    return ResponseEntity.status(status).body(projectionRebuild.status());
+  }
+
+  @GetMapping("/rebuild")
+  public ProjectionRebuildStatus rebuildStatus() {
+    return projectionRebuild.status();
+  }
+
+  @PostMapping("/statistics/reconcile")
+  public PolicyStatistics reconcileStatistics() {
+    return statisticsService.reconcile();
+  }
+}
@@ -0,0 +1,6 @@
+package com.tinubu.insurance.presentation.dto;
+
+public enum BatchOperation {
+  CREATE,
+  UPDATE
+}
@@ -0,0 +1,20 @@
+package com.tinubu.insurance.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tinubu.insurance.application.exception.ValidationError;
+import java.util.List;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchPolicyItemResult(
+    int index, UUID policyId, boolean succeeded, List<ValidationError> errors) {
+
+  public static BatchPolicyItemResult success(int index, UUID policyId) {
+    return new BatchPolicyItemResult(index, policyId, true, null);
+  }
+
+  public static BatchPolicyItemResult failure(
+      int index, UUID policyId, List<ValidationError> errors) {
+    return new BatchPolicyItemResult(index, policyId, false, errors);
+  }
+}
@@ -0,0 +1,11 @@
+package com.tinubu.insurance.presentation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+// Items are validated one by one so that an invalid item does not reject the whole batch
+public record BatchPolicyRequest(
+    @NotEmpty(message = "Batch must contain at least one item")
+        @Size(max = 1000, message = "Batch must not contain more than 1000 items")
+        List<BatchPolicyItem> items) {}
@@ -0,0 +1,5 @@
+package com.tinubu.insurance.presentation.dto;
+
+import java.util.List;
+
+public record BatchPolicyResponse(int succeeded, int failed, List<BatchPolicyItemResult> results) {}
@@ -0,0 +1,5 @@
+package com.tinubu.insurance.presentation.dto;
+
+import java.util.UUID;
+
+public record CreatePolicyResponse(UUID policyId) {}
@@ -0,0 +1,8 @@
+package com.tinubu.insurance.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tinubu.insurance.domain.policy.entity.Policy;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PolicyPageResponse(List<Policy> policies, String nextCursor, String next) {}
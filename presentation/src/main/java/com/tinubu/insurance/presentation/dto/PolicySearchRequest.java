@@ -0,0 +1,36 @@
+package com.tinubu.insurance.presentation.dto;
+
+import com.tinubu.insurance.domain.policy.entity.PolicyStatus;
+import com.tinubu.insurance.domain.policy.search.PolicySearchCriteria;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+/** Query parameters of the policy search; {@code status} may be repeated. */
+public record PolicySearchRequest(
+    List<PolicyStatus> status,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate startDateFrom,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate startDateTo,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate endDateFrom,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate endDateTo,
+    @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdFrom,
+    @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime createdTo,
+    @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime updatedFrom,
+    @DateTimeFormat(iso = ISO.DATE_TIME) OffsetDateTime updatedTo) {
+
+  public PolicySearchCriteria toCriteria() {
+    return new PolicySearchCriteria(
+        status == null ? Set.of() : Set.copyOf(status),
+        startDateFrom,
+        startDateTo,
+        endDateFrom,
+        endDateTo,
+        createdFrom,
+        createdTo,
+        updatedFrom,
+        updatedTo);
+  }
+}
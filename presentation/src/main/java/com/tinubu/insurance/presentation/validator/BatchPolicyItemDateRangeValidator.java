@@ -0,0 +1,17 @@
+package com.tinubu.insurance.presentation.validator;
+
+import com.tinubu.insurance.presentation.dto.BatchPolicyItem;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class BatchPolicyItemDateRangeValidator
+    implements ConstraintValidator<ValidPolicyDateRange, BatchPolicyItem> {
+
+  @Override
+  public boolean isValid(BatchPolicyItem item, ConstraintValidatorContext context) {
+    if (item == null || item.startDate() == null || item.endDate() == null) {
+      return true; // Let @NotNull handle null validation
+    }
+    return !item.endDate().isBefore(item.startDate());
+  }
+}
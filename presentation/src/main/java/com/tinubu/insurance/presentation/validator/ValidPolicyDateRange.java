@@ -12,7 +12,8 @@ import java.lang.annotation.Target;
 @Constraint(
     validatedBy = {
       CreatePolicyDateRangeValidator.class,
-      UpdatePolicyDateRangeValidator.class
+      UpdatePolicyDateRangeValidator.class,
+      BatchPolicyItemDateRangeValidator.class
     }) // Multiple validator classes here
 @Target({ElementType.TYPE}) // Class-level validation
 @Retention(RetentionPolicy.RUNTIME)